@@ -0,0 +1,29 @@
+package com.gustavo.benchmarks;
+
+import java.util.SplittableRandom;
+
+// Padrão de acesso usado para gerar a sequência de índices dos benchmarks
+public enum AccessPattern {
+  SEQUENTIAL,
+  RANDOM;
+
+  // Gera `count` índices em [0, bound), sempre com a mesma semente para execuções comparáveis
+  public int[] indices(int count, int bound) {
+    int[] idx = new int[count];
+    if (this == SEQUENTIAL) {
+      for (int i = 0; i < count; i++) idx[i] = i % bound;
+    } else {
+      SplittableRandom rnd = new SplittableRandom(42);
+      for (int i = 0; i < count; i++) idx[i] = rnd.nextInt(bound);
+    }
+    return idx;
+  }
+
+  // Gera `count` valores inteiros aleatórios reprodutíveis
+  public static int[] values(int count) {
+    SplittableRandom rnd = new SplittableRandom(7);
+    int[] values = new int[count];
+    for (int i = 0; i < count; i++) values[i] = rnd.nextInt();
+    return values;
+  }
+}
@@ -0,0 +1,21 @@
+package com.gustavo.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Executa os benchmarks com o profiler de GC habilitado (taxa de alocação)
+// Uso: java -cp benchmarks/target/benchmarks.jar com.gustavo.benchmarks.BenchmarkRunner [regex]
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : "com.gustavo.benchmarks.*";
+    Options opt = new OptionsBuilder()
+        .include(include)
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
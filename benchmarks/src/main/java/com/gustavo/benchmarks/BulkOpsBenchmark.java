@@ -0,0 +1,67 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Carga e expiração em lote: operações em massa vs. chamadas elemento a elemento
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkOpsBenchmark {
+
+  @Param({"10000", "100000"})
+  public int size;
+
+  private int[] values;
+
+  @Setup
+  public void setup() {
+    values = AccessPattern.values(size);
+  }
+
+  @Benchmark
+  public DynamicArray loadOneByOne() {
+    DynamicArray a = new DynamicArray();
+    for (int v : values) a.add(v);
+    return a;
+  }
+
+  @Benchmark
+  public DynamicArray loadAddAll() {
+    DynamicArray a = new DynamicArray();
+    a.addAll(values, 0, values.length);
+    return a;
+  }
+
+  // Remove ~metade dos elementos (os pares) com removeAt, O(n·k)
+  @Benchmark
+  public DynamicArray expireRemoveAt() {
+    DynamicArray a = new DynamicArray(values);
+    for (int i = a.size() - 1; i >= 0; i--) {
+      if ((a.get(i) & 1) == 0) a.removeAt(i);
+    }
+    return a;
+  }
+
+  // Mesma remoção com uma única passada de compactação, O(n)
+  @Benchmark
+  public DynamicArray expireRemoveIf() {
+    DynamicArray a = new DynamicArray(values);
+    a.removeIf(v -> (v & 1) == 0);
+    return a;
+  }
+}
@@ -0,0 +1,105 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.ConcurrentDynamicArray;
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Contenção de appends com 16 threads: ConcurrentDynamicArray vs DynamicArray
+// sincronizado vs CopyOnWriteArrayList. As estruturas são recriadas a cada iteração
+// para o tamanho não crescer sem limite.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConcurrentAppendBenchmark {
+
+  private ConcurrentDynamicArray concurrent;
+  private DynamicArray synchronizedArray;
+  private CopyOnWriteArrayList<Integer> copyOnWrite;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    concurrent = new ConcurrentDynamicArray();
+    synchronizedArray = new DynamicArray();
+    copyOnWrite = new CopyOnWriteArrayList<>();
+    // Leitores do grupo misto precisam de algum conteúdo publicado
+    for (int i = 0; i < 1024; i++) {
+      concurrent.add(i);
+      synchronizedArray.add(i);
+    }
+  }
+
+  // Somente appends
+
+  @Benchmark
+  @Threads(16)
+  public int concurrentAdd() {
+    return concurrent.add(42);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void synchronizedAdd() {
+    synchronized (synchronizedArray) {
+      synchronizedArray.add(42);
+    }
+  }
+
+  @Benchmark
+  @Threads(16)
+  public boolean copyOnWriteAdd() {
+    return copyOnWrite.add(42);
+  }
+
+  // Misto: 8 escritores e 8 leitores
+
+  @Benchmark
+  @Group("concurrentMixed")
+  @GroupThreads(8)
+  public int concurrentMixedWrite() {
+    return concurrent.add(42);
+  }
+
+  @Benchmark
+  @Group("concurrentMixed")
+  @GroupThreads(8)
+  public int concurrentMixedRead() {
+    return concurrent.get(ThreadLocalRandom.current().nextInt(concurrent.size()));
+  }
+
+  @Benchmark
+  @Group("synchronizedMixed")
+  @GroupThreads(8)
+  public void synchronizedMixedWrite() {
+    synchronized (synchronizedArray) {
+      synchronizedArray.add(42);
+    }
+  }
+
+  @Benchmark
+  @Group("synchronizedMixed")
+  @GroupThreads(8)
+  public int synchronizedMixedRead() {
+    synchronized (synchronizedArray) {
+      return synchronizedArray.get(ThreadLocalRandom.current().nextInt(synchronizedArray.size()));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.concurrentdeque.LockFreeQueue;
+import com.gustavo.datastructures.concurrentdeque.WorkStealingDeque;
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Throughput multi-thread das filas concorrentes
+// FIFO: 4 produtores + 4 consumidores (LockFreeQueue vs ConcurrentLinkedQueue vs
+// DoublyLinkedList sincronizada). Work-stealing: 1 dono + 3 ladrões
+// (WorkStealingDeque vs ConcurrentLinkedDeque).
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConcurrentDequeBenchmark {
+
+  private static final Integer ITEM = 42;
+
+  private LockFreeQueue<Integer> lockFree;
+  private ConcurrentLinkedQueue<Integer> jdkQueue;
+  private DoublyLinkedList<Integer> synchronizedList;
+  private WorkStealingDeque<Integer> stealing;
+  private ConcurrentLinkedDeque<Integer> jdkDeque;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    lockFree = new LockFreeQueue<>();
+    jdkQueue = new ConcurrentLinkedQueue<>();
+    synchronizedList = new DoublyLinkedList<>();
+    stealing = new WorkStealingDeque<>();
+    jdkDeque = new ConcurrentLinkedDeque<>();
+  }
+
+  // FIFO
+
+  @Benchmark
+  @Group("lockFreeQueue")
+  @GroupThreads(4)
+  public void lockFreeOffer() {
+    lockFree.addLast(ITEM);
+  }
+
+  @Benchmark
+  @Group("lockFreeQueue")
+  @GroupThreads(4)
+  public Integer lockFreePoll() {
+    return lockFree.pollFirst();
+  }
+
+  @Benchmark
+  @Group("jdkQueue")
+  @GroupThreads(4)
+  public boolean jdkOffer() {
+    return jdkQueue.offer(ITEM);
+  }
+
+  @Benchmark
+  @Group("jdkQueue")
+  @GroupThreads(4)
+  public Integer jdkPoll() {
+    return jdkQueue.poll();
+  }
+
+  @Benchmark
+  @Group("synchronizedList")
+  @GroupThreads(4)
+  public void synchronizedOffer() {
+    synchronized (synchronizedList) {
+      synchronizedList.addLast(ITEM);
+    }
+  }
+
+  @Benchmark
+  @Group("synchronizedList")
+  @GroupThreads(4)
+  public Integer synchronizedPoll() {
+    synchronized (synchronizedList) {
+      return synchronizedList.isEmpty() ? null : synchronizedList.removeFirst();
+    }
+  }
+
+  // Work-stealing: o dono empilha dois e desempilha um, ladrões roubam do head
+
+  @Benchmark
+  @Group("workStealing")
+  @GroupThreads(1)
+  public Integer stealingOwner() {
+    stealing.addLast(ITEM);
+    stealing.addLast(ITEM);
+    return stealing.pollLast();
+  }
+
+  @Benchmark
+  @Group("workStealing")
+  @GroupThreads(3)
+  public Integer stealingThief() {
+    return stealing.pollFirst();
+  }
+
+  @Benchmark
+  @Group("jdkDeque")
+  @GroupThreads(1)
+  public Integer jdkDequeOwner() {
+    jdkDeque.addLast(ITEM);
+    jdkDeque.addLast(ITEM);
+    return jdkDeque.pollLast();
+  }
+
+  @Benchmark
+  @Group("jdkDeque")
+  @GroupThreads(3)
+  public Integer jdkDequeThief() {
+    return jdkDeque.pollFirst();
+  }
+}
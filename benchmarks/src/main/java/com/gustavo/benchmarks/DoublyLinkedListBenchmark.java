@@ -0,0 +1,192 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// DoublyLinkedList comparada com LinkedList e ArrayDeque
+// Throughput + SampleTime (p99); use -prof gc para a taxa de alocação
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoublyLinkedListBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "10000", "100000"})
+  public int size;
+
+  @Param({"SEQUENTIAL", "RANDOM"})
+  public AccessPattern pattern;
+
+  @Param({"INTEGER", "STRING"})
+  public ElementType elementType;
+
+  private Object[] values;
+  private int[] idx;
+  private int pos;
+
+  private DoublyLinkedList<Object> list;
+  private LinkedList<Object> linked;
+  private ArrayDeque<Object> deque;
+
+  @Setup
+  public void setup() {
+    values = elementType.box(AccessPattern.values(size));
+    idx = pattern.indices(OPS, size);
+
+    list = new DoublyLinkedList<>();
+    linked = new LinkedList<>();
+    deque = new ArrayDeque<>(size);
+    for (Object v : values) {
+      list.add(v);
+      linked.add(v);
+      deque.add(v);
+    }
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  // add: constrói a estrutura a partir de vazia
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public DoublyLinkedList<Object> doublyAdd() {
+    DoublyLinkedList<Object> l = new DoublyLinkedList<>();
+    for (int i = 0; i < OPS; i++) l.add(values[i % size]);
+    return l;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public LinkedList<Object> linkedListAdd() {
+    LinkedList<Object> l = new LinkedList<>();
+    for (int i = 0; i < OPS; i++) l.add(values[i % size]);
+    return l;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public ArrayDeque<Object> arrayDequeAdd() {
+    ArrayDeque<Object> l = new ArrayDeque<>();
+    for (int i = 0; i < OPS; i++) l.add(values[i % size]);
+    return l;
+  }
+
+  // Uso como fila: removeFirst + addLast
+
+  @Benchmark
+  public void doublyQueueCycle() {
+    list.addLast(list.removeFirst());
+  }
+
+  @Benchmark
+  public void linkedListQueueCycle() {
+    linked.addLast(linked.removeFirst());
+  }
+
+  @Benchmark
+  public void arrayDequeQueueCycle() {
+    deque.addLast(deque.removeFirst());
+  }
+
+  // get(i)
+
+  @Benchmark
+  public Object doublyGet() {
+    return list.get(nextIndex());
+  }
+
+  @Benchmark
+  public Object linkedListGet() {
+    return linked.get(nextIndex());
+  }
+
+  // removeAt: remove uma posição e reinsere no final para manter o tamanho estável
+
+  @Benchmark
+  public void doublyRemoveAt() {
+    list.addLast(list.removeAt(nextIndex()));
+  }
+
+  @Benchmark
+  public void linkedListRemoveAt() {
+    linked.addLast(linked.remove(nextIndex()));
+  }
+
+  // remove(Object)
+
+  @Benchmark
+  public boolean doublyRemove() {
+    Object v = values[nextIndex()];
+    boolean removed = list.remove(v);
+    list.addLast(v);
+    return removed;
+  }
+
+  @Benchmark
+  public boolean linkedListRemove() {
+    Object v = values[nextIndex()];
+    boolean removed = linked.remove(v);
+    linked.addLast(v);
+    return removed;
+  }
+
+  @Benchmark
+  public boolean arrayDequeRemove() {
+    Object v = values[nextIndex()];
+    boolean removed = deque.remove(v);
+    deque.addLast(v);
+    return removed;
+  }
+
+  // indexOf
+
+  @Benchmark
+  public int doublyIndexOf() {
+    return list.indexOf(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int linkedListIndexOf() {
+    return linked.indexOf(values[nextIndex()]);
+  }
+
+  // iterate
+
+  @Benchmark
+  public void doublyIterate(Blackhole bh) {
+    for (Object v : list) bh.consume(v);
+  }
+
+  @Benchmark
+  public void linkedListIterate(Blackhole bh) {
+    for (Object v : linked) bh.consume(v);
+  }
+
+  @Benchmark
+  public void arrayDequeIterate(Blackhole bh) {
+    for (Object v : deque) bh.consume(v);
+  }
+}
@@ -0,0 +1,292 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// DynamicArray comparado com ArrayList<Integer> e int[]
+// Throughput + SampleTime (p99); use -prof gc para a taxa de alocação
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicArrayBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  @Param({"SEQUENTIAL", "RANDOM"})
+  public AccessPattern pattern;
+
+  private int[] values;
+  private int[] sorted;
+  private int[] idx;
+  private int pos;
+
+  private DynamicArray dynamic;
+  private DynamicArray dynamicSorted;
+  private ArrayList<Integer> list;
+  private ArrayList<Integer> listSorted;
+  private int[] plain;
+  private final int[] chunk = new int[OPS];
+
+  @Setup
+  public void setup() {
+    values = AccessPattern.values(size);
+    sorted = values.clone();
+    Arrays.sort(sorted);
+    idx = pattern.indices(OPS, size);
+
+    dynamic = new DynamicArray(values);
+    dynamicSorted = new DynamicArray(sorted);
+    list = new ArrayList<>(size);
+    listSorted = new ArrayList<>(size);
+    for (int v : values) list.add(v);
+    for (int v : sorted) listSorted.add(v);
+    plain = values.clone();
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  // get
+
+  @Benchmark
+  public int dynamicGet() {
+    return dynamic.get(nextIndex());
+  }
+
+  @Benchmark
+  public int arrayListGet() {
+    return list.get(nextIndex());
+  }
+
+  @Benchmark
+  public int intArrayGet() {
+    return plain[nextIndex()];
+  }
+
+  // set
+
+  @Benchmark
+  public void dynamicSet() {
+    int i = nextIndex();
+    dynamic.set(i, values[i]);
+  }
+
+  @Benchmark
+  public void arrayListSet() {
+    int i = nextIndex();
+    list.set(i, values[i]);
+  }
+
+  @Benchmark
+  public void intArraySet() {
+    int i = nextIndex();
+    plain[i] = values[i];
+  }
+
+  // add: constrói a estrutura inteira a partir de vazia
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public DynamicArray dynamicAdd() {
+    DynamicArray a = new DynamicArray();
+    for (int i = 0; i < OPS; i++) a.add(values[i % size]);
+    return a;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public ArrayList<Integer> arrayListAdd() {
+    ArrayList<Integer> a = new ArrayList<>();
+    for (int i = 0; i < OPS; i++) a.add(values[i % size]);
+    return a;
+  }
+
+  // removeAt: remove uma posição e reinsere no final para manter o tamanho estável
+
+  @Benchmark
+  public void dynamicRemoveAt() {
+    int i = nextIndex();
+    int v = dynamic.get(i);
+    dynamic.removeAt(i);
+    dynamic.add(v);
+  }
+
+  @Benchmark
+  public void arrayListRemoveAt() {
+    int i = nextIndex();
+    list.add(list.remove(i));
+  }
+
+  // remove(valor): busca linear seguida de remoção
+
+  @Benchmark
+  public boolean dynamicRemove() {
+    int v = values[nextIndex()];
+    boolean removed = dynamic.remove(v);
+    dynamic.add(v);
+    return removed;
+  }
+
+  @Benchmark
+  public boolean arrayListRemove() {
+    Integer v = values[nextIndex()];
+    boolean removed = list.remove(v);
+    list.add(v);
+    return removed;
+  }
+
+  // indexOf: DynamicArray não expõe indexOf, então a busca linear é feita via get()
+
+  @Benchmark
+  public int dynamicIndexOf() {
+    int v = values[nextIndex()];
+    for (int i = 0; i < dynamic.size(); i++) {
+      if (dynamic.get(i) == v) return i;
+    }
+    return -1;
+  }
+
+  @Benchmark
+  public int arrayListIndexOf() {
+    return list.indexOf(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int intArrayIndexOf() {
+    int v = values[nextIndex()];
+    for (int i = 0; i < plain.length; i++) {
+      if (plain[i] == v) return i;
+    }
+    return -1;
+  }
+
+  // iterate
+
+  @Benchmark
+  public void dynamicIterate(Blackhole bh) {
+    for (int v : dynamic) bh.consume(v);
+  }
+
+  @Benchmark
+  public void dynamicIterateIndexed(Blackhole bh) {
+    for (int i = 0; i < dynamic.size(); i++) bh.consume(dynamic.get(i));
+  }
+
+  @Benchmark
+  public void dynamicIterateInt(Blackhole bh) {
+    PrimitiveIterator.OfInt it = dynamic.intIterator();
+    while (it.hasNext()) bh.consume(it.nextInt());
+  }
+
+  @Benchmark
+  public void dynamicForEach(Blackhole bh) {
+    dynamic.forEachInt(bh::consume);
+  }
+
+  @Benchmark
+  public long dynamicStreamSum() {
+    return dynamic.stream().asLongStream().sum();
+  }
+
+  @Benchmark
+  public long dynamicCopyToSum() {
+    int[] buf = chunk;
+    long sum = 0;
+    for (int from = 0; from < dynamic.size(); from += buf.length) {
+      int n = Math.min(buf.length, dynamic.size() - from);
+      dynamic.copyTo(buf, 0, from, n);
+      for (int i = 0; i < n; i++) sum += buf[i];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public void arrayListIterate(Blackhole bh) {
+    for (int v : list) bh.consume(v);
+  }
+
+  @Benchmark
+  public void intArrayIterate(Blackhole bh) {
+    for (int v : plain) bh.consume(v);
+  }
+
+  // sort: inclui a cópia dos dados em todas as variantes
+
+  @Benchmark
+  public DynamicArray dynamicSort() {
+    DynamicArray a = new DynamicArray(values);
+    a.sort();
+    return a;
+  }
+
+  @Benchmark
+  public DynamicArray dynamicRadixSort() {
+    DynamicArray a = new DynamicArray(values);
+    a.radixSort();
+    return a;
+  }
+
+  // Já ordenado: sort() retorna em O(1) pelo flag de ordenação
+  @Benchmark
+  public DynamicArray dynamicSortAlreadySorted() {
+    dynamicSorted.sort();
+    return dynamicSorted;
+  }
+
+  @Benchmark
+  public ArrayList<Integer> arrayListSort() {
+    ArrayList<Integer> a = new ArrayList<>(list);
+    Collections.sort(a);
+    return a;
+  }
+
+  @Benchmark
+  public int[] intArraySort() {
+    int[] a = values.clone();
+    Arrays.sort(a);
+    return a;
+  }
+
+  // binarySearch
+
+  @Benchmark
+  public int dynamicBinarySearch() {
+    return dynamicSorted.binarySearch(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int arrayListBinarySearch() {
+    return Collections.binarySearch(listSorted, values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int intArrayBinarySearch() {
+    return Arrays.binarySearch(sorted, values[nextIndex()]);
+  }
+}
@@ -0,0 +1,16 @@
+package com.gustavo.benchmarks;
+
+// Tipo de elemento armazenado nas listas genéricas durante os benchmarks
+public enum ElementType {
+  INTEGER,
+  STRING;
+
+  // Converte os valores primitivos para o tipo de elemento escolhido
+  public Object[] box(int[] values) {
+    Object[] boxed = new Object[values.length];
+    for (int i = 0; i < values.length; i++) {
+      boxed[i] = this == INTEGER ? Integer.valueOf(values[i]) : "v" + values[i];
+    }
+    return boxed;
+  }
+}
@@ -0,0 +1,59 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import com.gustavo.datastructures.dynamicarray.GrowthPolicy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo de carregar `size` elementos em um DynamicArray com cada política de crescimento
+// Use -prof gc para comparar o volume de cópias (bytes alocados)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrowthPolicyBenchmark {
+
+  @Param({"100000", "1000000"})
+  public int size;
+
+  @Param({"DOUBLING", "ONE_AND_HALF", "CAPPED"})
+  public String policy;
+
+  private GrowthPolicy growthPolicy;
+
+  @Setup
+  public void setup() {
+    switch (policy) {
+      case "DOUBLING": growthPolicy = GrowthPolicy.doubling(); break;
+      case "ONE_AND_HALF": growthPolicy = GrowthPolicy.oneAndHalf(); break;
+      default: growthPolicy = GrowthPolicy.cappedGeometric(2.0, 1 << 16);
+    }
+  }
+
+  @Benchmark
+  public DynamicArray load() {
+    DynamicArray a = new DynamicArray(8, growthPolicy);
+    for (int i = 0; i < size; i++) a.add(i);
+    return a;
+  }
+
+  @Benchmark
+  public DynamicArray loadPresized() {
+    DynamicArray a = new DynamicArray(8, growthPolicy);
+    a.ensureCapacity(size);
+    for (int i = 0; i < size; i++) a.add(i);
+    return a;
+  }
+}
@@ -0,0 +1,131 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import com.gustavo.datastructures.hash.IntHashSet;
+import com.gustavo.datastructures.hash.IntIntHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// IntHashSet/IntIntHashMap comparados com HashSet<Integer>/HashMap<Integer, Integer>,
+// e DynamicArray.contains com e sem o índice de pertinência
+// Metade das consultas é de valores presentes e metade de ausentes
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntHashBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private int[] queries;
+  private int pos;
+
+  private IntHashSet intSet;
+  private HashSet<Integer> boxedSet;
+  private IntIntHashMap intMap;
+  private HashMap<Integer, Integer> boxedMap;
+  private DynamicArray plain;
+  private DynamicArray indexed;
+
+  @Setup
+  public void setup() {
+    int[] values = AccessPattern.values(size);
+    int[] idx = AccessPattern.RANDOM.indices(OPS, size);
+    queries = new int[OPS];
+    for (int i = 0; i < OPS; i++) {
+      // Valores ímpares entram no conjunto; a versão par correspondente fica ausente
+      queries[i] = (i & 1) == 0 ? values[idx[i]] | 1 : values[idx[i]] & ~1;
+    }
+
+    intSet = new IntHashSet();
+    boxedSet = new HashSet<>();
+    intMap = new IntIntHashMap();
+    boxedMap = new HashMap<>();
+    plain = new DynamicArray();
+    for (int v : values) {
+      v |= 1;
+      intSet.add(v);
+      boxedSet.add(v);
+      intMap.put(v, v);
+      boxedMap.put(v, v);
+      plain.add(v);
+    }
+    indexed = new DynamicArray(plain.toArray());
+    indexed.enableMembershipIndex();
+  }
+
+  private int nextQuery() {
+    int q = queries[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return q;
+  }
+
+  // contains
+
+  @Benchmark
+  public boolean intHashSetContains() {
+    return intSet.contains(nextQuery());
+  }
+
+  @Benchmark
+  public boolean hashSetContains() {
+    return boxedSet.contains(nextQuery());
+  }
+
+  @Benchmark
+  public boolean dynamicArrayContains() {
+    return plain.contains(nextQuery());
+  }
+
+  @Benchmark
+  public boolean indexedDynamicArrayContains() {
+    return indexed.contains(nextQuery());
+  }
+
+  // get
+
+  @Benchmark
+  public int intIntHashMapGet() {
+    return intMap.get(nextQuery());
+  }
+
+  @Benchmark
+  public Integer hashMapGet() {
+    return boxedMap.get(nextQuery());
+  }
+
+  // remove + add, mantendo o tamanho estável
+
+  @Benchmark
+  public boolean intHashSetRemoveAdd() {
+    int q = nextQuery();
+    boolean removed = intSet.remove(q);
+    if (removed) intSet.add(q);
+    return removed;
+  }
+
+  @Benchmark
+  public boolean hashSetRemoveAdd() {
+    int q = nextQuery();
+    boolean removed = boxedSet.remove(q);
+    if (removed) boxedSet.add(q);
+    return removed;
+  }
+}
@@ -0,0 +1,83 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import com.gustavo.datastructures.singlylinkedlist.SinglyLinkedList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Streams sequenciais e paralelos sobre as listas ligadas, comparados com LinkedList
+// O ganho de parallelStream depende do número de núcleos (-Djava.util.concurrent.ForkJoinPool.common.parallelism)
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedStreamBenchmark {
+
+  @Param({"10000", "1000000"})
+  public int size;
+
+  private DoublyLinkedList<Integer> doubly;
+  private SinglyLinkedList<Integer> singly;
+  private LinkedList<Integer> linked;
+
+  @Setup
+  public void setup() {
+    int[] values = AccessPattern.values(size);
+    doubly = new DoublyLinkedList<>();
+    singly = new SinglyLinkedList<>();
+    linked = new LinkedList<>();
+    for (int v : values) {
+      doubly.add(v);
+      singly.add(v);
+      linked.add(v);
+    }
+  }
+
+  // Soma com uma função de custo moderado por elemento
+
+  @Benchmark
+  public long doublyStream() {
+    return doubly.stream().mapToLong(v -> Long.bitCount(v * 0x9E3779B97F4A7C15L)).sum();
+  }
+
+  @Benchmark
+  public long doublyParallelStream() {
+    return doubly.parallelStream().mapToLong(v -> Long.bitCount(v * 0x9E3779B97F4A7C15L)).sum();
+  }
+
+  @Benchmark
+  public long singlyParallelStream() {
+    return singly.parallelStream().mapToLong(v -> Long.bitCount(v * 0x9E3779B97F4A7C15L)).sum();
+  }
+
+  @Benchmark
+  public long linkedListParallelStream() {
+    return linked.parallelStream().mapToLong(v -> Long.bitCount(v * 0x9E3779B97F4A7C15L)).sum();
+  }
+
+  // forEach direto pelos nodes vs for-each com iterator
+
+  @Benchmark
+  public void doublyForEach(Blackhole bh) {
+    doubly.forEach(bh::consume);
+  }
+
+  @Benchmark
+  public void doublyIterate(Blackhole bh) {
+    for (Integer v : doubly) bh.consume(v);
+  }
+}
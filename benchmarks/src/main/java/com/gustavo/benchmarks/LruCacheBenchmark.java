@@ -0,0 +1,99 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.lrucache.LruCache;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// LruCache comparado com um LinkedHashMap em ordem de acesso (removeEldestEntry)
+// Cada operação é um get seguido de put em caso de falta, com chaves em [0, keySpace)
+// distribuídas de forma enviesada para que parte delas fique quente no cache
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LruCacheBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000"})
+  public int capacity;
+
+  // Razão entre o universo de chaves e a capacidade
+  @Param({"2", "10"})
+  public int keySpaceFactor;
+
+  private Integer[] keys;
+  private int pos;
+
+  private LruCache<Integer, Integer> lru;
+  private LinkedHashMap<Integer, Integer> linked;
+
+  @Setup
+  public void setup() {
+    int keySpace = capacity * keySpaceFactor;
+    SplittableRandom rnd = new SplittableRandom(42);
+    keys = new Integer[OPS];
+    for (int i = 0; i < OPS; i++) {
+      // Produto de dois uniformes: concentra os acessos nas chaves menores
+      double u = rnd.nextDouble() * rnd.nextDouble();
+      keys[i] = (int) (u * keySpace);
+    }
+
+    lru = new LruCache<>(capacity);
+    final int cap = capacity;
+    linked = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+        return size() > cap;
+      }
+    };
+    for (int i = 0; i < keySpace; i++) {
+      lru.put(i, i);
+      linked.put(i, i);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public int lruCache() {
+    int sum = 0;
+    for (int i = 0; i < OPS; i++) {
+      Integer k = keys[(pos + i) & (OPS - 1)];
+      Integer v = lru.get(k);
+      if (v == null) lru.put(k, v = k);
+      sum += v;
+    }
+    pos++;
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public int linkedHashMap() {
+    int sum = 0;
+    for (int i = 0; i < OPS; i++) {
+      Integer k = keys[(pos + i) & (OPS - 1)];
+      Integer v = linked.get(k);
+      if (v == null) linked.put(k, v = k);
+      sum += v;
+    }
+    pos++;
+    return sum;
+  }
+}
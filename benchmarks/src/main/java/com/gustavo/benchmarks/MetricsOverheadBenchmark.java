@@ -0,0 +1,115 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import com.gustavo.datastructures.metrics.CountingMetricsSink;
+import com.gustavo.datastructures.metrics.Metrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo da instrumentação nos caminhos quentes. Os métodos *Instrumented rodam em um
+// fork com -Dcom.gustavo.datastructures.metrics=true e um CountingMetricsSink; os demais
+// no fork padrão, onde os ganchos devem ser eliminados e o resultado igual ao de antes.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private int[] idx;
+  private int pos;
+
+  private DynamicArray array;
+  private DoublyLinkedList<Integer> list;
+
+  @Setup
+  public void setup() {
+    if (Metrics.ENABLED) Metrics.setSink(new CountingMetricsSink());
+    idx = AccessPattern.RANDOM.indices(OPS, size);
+
+    array = new DynamicArray(size);
+    list = new DoublyLinkedList<>();
+    for (int i = 0; i < size; i++) {
+      array.add(i);
+      list.add(i);
+    }
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  // add a partir da capacidade mínima: passa por todos os resizes
+
+  private DynamicArray grow() {
+    DynamicArray a = new DynamicArray(1);
+    for (int i = 0; i < OPS; i++) a.add(i);
+    return a;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public DynamicArray arrayGrow() {
+    return grow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  @Fork(value = 1, jvmArgsAppend = "-Dcom.gustavo.datastructures.metrics=true")
+  public DynamicArray arrayGrowInstrumented() {
+    return grow();
+  }
+
+  // removeAt: desloca o restante do array; reinsere no final para manter o tamanho
+
+  private void removeAt() {
+    int i = nextIndex();
+    int v = array.get(i);
+    array.removeAt(i);
+    array.add(v);
+  }
+
+  @Benchmark
+  public void arrayRemoveAt() {
+    removeAt();
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Dcom.gustavo.datastructures.metrics=true")
+  public void arrayRemoveAtInstrumented() {
+    removeAt();
+  }
+
+  // get(i): percorre a lista a partir do extremo mais próximo
+
+  @Benchmark
+  public Integer doublyGet() {
+    return list.get(nextIndex());
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Dcom.gustavo.datastructures.metrics=true")
+  public Integer doublyGetInstrumented() {
+    return list.get(nextIndex());
+  }
+}
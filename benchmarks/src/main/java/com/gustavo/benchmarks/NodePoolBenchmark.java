@@ -0,0 +1,123 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.arraylinkedlist.ArrayLinkedList;
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import com.gustavo.datastructures.singlylinkedlist.SinglyLinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Churn de inserções e remoções com e sem reuso de nodes, e na ArrayLinkedList
+// (sem objetos Node). O número relevante é gc.alloc.rate.norm: rode com -prof gc
+// ou pelo BenchmarkRunner. Os valores são pré-alocados para medir só os nodes.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePoolBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  // Capacidade do pool das listas ligadas (0 desabilita o reuso)
+  @Param({"0", "64"})
+  public int poolCapacity;
+
+  private Integer[] values;
+
+  private DoublyLinkedList<Integer> doubly;
+  private SinglyLinkedList<Integer> singly;
+  private ArrayLinkedList<Integer> array;
+
+  @Setup
+  public void setup() {
+    values = new Integer[OPS];
+    for (int i = 0; i < OPS; i++) values[i] = i;
+
+    doubly = new DoublyLinkedList<>();
+    singly = new SinglyLinkedList<>();
+    array = new ArrayLinkedList<>(size);
+    doubly.setNodePoolCapacity(poolCapacity);
+    singly.setNodePoolCapacity(poolCapacity);
+    for (int i = 0; i < size; i++) {
+      doubly.addLast(values[i % OPS]);
+      singly.addLast(values[i % OPS]);
+      array.addLast(values[i % OPS]);
+    }
+  }
+
+  // Uso como fila: removeFirst + addLast
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public int doublyQueueChurn() {
+    int sum = 0;
+    for (int i = 0; i < OPS; i++) {
+      sum += doubly.removeFirst();
+      doubly.addLast(values[i]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public int singlyQueueChurn() {
+    int sum = 0;
+    for (int i = 0; i < OPS; i++) {
+      sum += singly.removeFirst();
+      singly.addLast(values[i]);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public int arrayQueueChurn() {
+    int sum = 0;
+    for (int i = 0; i < OPS; i++) {
+      sum += array.removeFirst();
+      array.addLast(values[i]);
+    }
+    return sum;
+  }
+
+  // Rajadas: insere OPS elementos no head e depois os remove
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public DoublyLinkedList<Integer> doublyBurst() {
+    for (int i = 0; i < OPS; i++) doubly.addFirst(values[i]);
+    for (int i = 0; i < OPS; i++) doubly.removeFirst();
+    return doubly;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public SinglyLinkedList<Integer> singlyBurst() {
+    for (int i = 0; i < OPS; i++) singly.addFirst(values[i]);
+    for (int i = 0; i < OPS; i++) singly.removeFirst();
+    return singly;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public ArrayLinkedList<Integer> arrayBurst() {
+    for (int i = 0; i < OPS; i++) array.addFirst(values[i]);
+    for (int i = 0; i < OPS; i++) array.removeFirst();
+    return array;
+  }
+}
@@ -0,0 +1,84 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import com.gustavo.datastructures.offheaparray.OffHeapIntArray;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// OffHeapIntArray comparado com DynamicArray (no heap)
+// Rode com -prof gc e -jvmArgs -Xlog:gc para comparar as pausas de GC
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapIntArrayBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000000", "10000000"})
+  public int size;
+
+  @Param({"SEQUENTIAL", "RANDOM"})
+  public AccessPattern pattern;
+
+  private int[] idx;
+  private int pos;
+
+  private DynamicArray onHeap;
+  private OffHeapIntArray offHeap;
+
+  @Setup
+  public void setup() {
+    int[] values = AccessPattern.values(size);
+    idx = pattern.indices(OPS, size);
+    onHeap = new DynamicArray(values);
+    offHeap = new OffHeapIntArray(size);
+    for (int v : values) offHeap.add(v);
+  }
+
+  @TearDown
+  public void tearDown() {
+    offHeap.close();
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  @Benchmark
+  public int onHeapGet() {
+    return onHeap.get(nextIndex());
+  }
+
+  @Benchmark
+  public int offHeapGet() {
+    return offHeap.get(nextIndex());
+  }
+
+  @Benchmark
+  public long onHeapSum() {
+    return onHeap.stream().asLongStream().sum();
+  }
+
+  @Benchmark
+  public long offHeapSum() {
+    long sum = 0;
+    for (long i = 0; i < offHeap.size(); i++) sum += offHeap.get(i);
+    return sum;
+  }
+}
@@ -0,0 +1,84 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Ponto de cruzamento entre os caminhos sequencial e paralelo
+// intArrayParallelSort força o paralelismo em qualquer tamanho, mostrando onde ele começa a compensar
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelBenchmark {
+
+  @Param({"10000", "100000", "1000000", "10000000", "30000000"})
+  public int size;
+
+  private int[] values;
+  private DynamicArray array;
+  private int missing;
+
+  @Setup
+  public void setup() {
+    values = AccessPattern.values(size);
+    array = new DynamicArray(values);
+    // Valor ausente força a varredura completa
+    missing = values[0];
+    while (array.indexOf(missing) >= 0) missing++;
+  }
+
+  @Benchmark
+  public DynamicArray sort() {
+    DynamicArray a = new DynamicArray(values);
+    a.sort();
+    return a;
+  }
+
+  @Benchmark
+  public DynamicArray parallelSort() {
+    DynamicArray a = new DynamicArray(values);
+    a.parallelSort();
+    return a;
+  }
+
+  @Benchmark
+  public int[] intArrayParallelSort() {
+    int[] a = values.clone();
+    Arrays.parallelSort(a);
+    return a;
+  }
+
+  @Benchmark
+  public int indexOf() {
+    return array.indexOf(missing);
+  }
+
+  @Benchmark
+  public int parallelIndexOf() {
+    return array.parallelIndexOf(missing);
+  }
+
+  @Benchmark
+  public int count() {
+    return array.count(values[0]);
+  }
+
+  @Benchmark
+  public int parallelCount() {
+    return array.parallelCount(values[0]);
+  }
+}
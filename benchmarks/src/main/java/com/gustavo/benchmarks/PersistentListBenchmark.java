@@ -0,0 +1,90 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.persistentlist.PersistentList;
+import com.gustavo.datastructures.singlylinkedlist.SinglyLinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Publicar uma versão para leitores após cada modificação: SinglyLinkedList precisa
+// copiar a lista inteira, PersistentList compartilha os nodes da versão anterior.
+// Também compara o Builder com prepends seguidos de reverse para construir em ordem.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentListBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private Integer[] values;
+
+  private SinglyLinkedList<Integer> mutable;
+  private PersistentList<Integer> persistent;
+
+  // Última versão publicada, lida pelos "leitores"
+  private volatile Object published;
+
+  @Setup
+  public void setup() {
+    values = new Integer[OPS];
+    for (int i = 0; i < OPS; i++) values[i] = i;
+
+    mutable = new SinglyLinkedList<>();
+    PersistentList.Builder<Integer> builder = PersistentList.builder();
+    for (int i = 0; i < size; i++) {
+      mutable.addLast(values[i % OPS]);
+      builder.add(values[i % OPS]);
+    }
+    persistent = builder.build();
+  }
+
+  // addFirst + removeFirst e publicação de um snapshot
+
+  @Benchmark
+  public void singlyCopySnapshot() {
+    mutable.addFirst(values[0]);
+    mutable.removeFirst();
+    SinglyLinkedList<Integer> copy = new SinglyLinkedList<>();
+    for (Integer v : mutable) copy.addLast(v);
+    published = copy;
+  }
+
+  @Benchmark
+  public void persistentSnapshot() {
+    published = persistent.prepend(values[0]).tail();
+  }
+
+  // Construção em ordem a partir de vazia
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public PersistentList<Integer> persistentBuilder() {
+    PersistentList.Builder<Integer> builder = PersistentList.builder();
+    for (int i = 0; i < OPS; i++) builder.add(values[i]);
+    return builder.build();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public PersistentList<Integer> persistentPrependReverse() {
+    PersistentList<Integer> list = PersistentList.empty();
+    for (int i = 0; i < OPS; i++) list = list.prepend(values[i]);
+    return list.reverse();
+  }
+}
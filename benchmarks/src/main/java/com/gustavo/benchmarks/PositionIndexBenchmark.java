@@ -0,0 +1,97 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Acesso posicional aleatório na DoublyLinkedList com e sem o índice posicional,
+// comparado com LinkedList (que percorre a partir do extremo mais próximo)
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionIndexBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"10000", "1000000"})
+  public int size;
+
+  @Param({"true", "false"})
+  public boolean indexed;
+
+  private int[] idx;
+  private int pos;
+
+  private DoublyLinkedList<Integer> list;
+  private LinkedList<Integer> linked;
+
+  @Setup
+  public void setup() {
+    idx = AccessPattern.RANDOM.indices(OPS, size);
+
+    list = new DoublyLinkedList<>();
+    linked = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      list.addLast(i);
+      linked.addLast(i);
+    }
+    if (indexed) list.enablePositionIndex();
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  // get(i)
+
+  @Benchmark
+  public Integer doublyGet() {
+    return list.get(nextIndex());
+  }
+
+  @Benchmark
+  public Integer linkedListGet() {
+    return linked.get(nextIndex());
+  }
+
+  // addAt + removeAt na mesma posição, mantendo o tamanho estável
+
+  @Benchmark
+  public Integer doublyInsertRemove() throws Exception {
+    int i = nextIndex();
+    list.addAt(i, i);
+    return list.removeAt(i);
+  }
+
+  @Benchmark
+  public Integer linkedListInsertRemove() {
+    int i = nextIndex();
+    linked.add(i, i);
+    return linked.remove(i);
+  }
+
+  // Operações nas pontas continuam O(1) com o índice habilitado
+
+  @Benchmark
+  public Integer doublyQueueCycle() {
+    Integer v = list.removeFirst();
+    list.addLast(v);
+    return v;
+  }
+}
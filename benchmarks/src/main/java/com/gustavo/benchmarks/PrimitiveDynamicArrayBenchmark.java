@@ -0,0 +1,91 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DoubleDynamicArray;
+import com.gustavo.datastructures.dynamicarray.LongDynamicArray;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Long/DoubleDynamicArray comparados com ArrayList<Long>/ArrayList<Double>
+// Use -prof gc para comparar os bytes alocados por elemento
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveDynamicArrayBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  private LongDynamicArray longs;
+  private DoubleDynamicArray doubles;
+  private ArrayList<Long> boxedLongs;
+  private ArrayList<Double> boxedDoubles;
+
+  @Setup
+  public void setup() {
+    int[] values = AccessPattern.values(size);
+    longs = new LongDynamicArray();
+    doubles = new DoubleDynamicArray();
+    boxedLongs = new ArrayList<>();
+    boxedDoubles = new ArrayList<>();
+    for (int v : values) {
+      longs.add(v * 1_000L);
+      doubles.add(v / 3.0);
+      boxedLongs.add(v * 1_000L);
+      boxedDoubles.add(v / 3.0);
+    }
+  }
+
+  @Benchmark
+  public LongDynamicArray longDynamicBuild() {
+    LongDynamicArray a = new LongDynamicArray();
+    for (int i = 0; i < size; i++) a.add(i * 1_000L);
+    return a;
+  }
+
+  @Benchmark
+  public ArrayList<Long> arrayListLongBuild() {
+    ArrayList<Long> a = new ArrayList<>();
+    for (int i = 0; i < size; i++) a.add(i * 1_000L);
+    return a;
+  }
+
+  @Benchmark
+  public long longDynamicSum() {
+    long sum = 0;
+    for (int i = 0; i < longs.size(); i++) sum += longs.get(i);
+    return sum;
+  }
+
+  @Benchmark
+  public long arrayListLongSum() {
+    long sum = 0;
+    for (int i = 0; i < boxedLongs.size(); i++) sum += boxedLongs.get(i);
+    return sum;
+  }
+
+  @Benchmark
+  public double doubleDynamicStreamSum() {
+    return doubles.stream().sum();
+  }
+
+  @Benchmark
+  public double arrayListDoubleSum() {
+    double sum = 0;
+    for (int i = 0; i < boxedDoubles.size(); i++) sum += boxedDoubles.get(i);
+    return sum;
+  }
+}
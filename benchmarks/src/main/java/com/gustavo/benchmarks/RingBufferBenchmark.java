@@ -0,0 +1,103 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.ringbuffer.BackpressureStrategy;
+import com.gustavo.datastructures.ringbuffer.IntRingBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// offer/drain das variantes de IntRingBuffer comparadas com ArrayBlockingQueue<Integer>
+// offer não bloqueia, então o throughput medido inclui as tentativas com buffer cheio/vazio
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmark {
+
+  private static final int CAPACITY = 1 << 12;
+  private static final int BATCH = 64;
+
+  private IntRingBuffer spsc;
+  private IntRingBuffer mpsc;
+  private IntRingBuffer mpmc;
+  private ArrayBlockingQueue<Integer> blocking;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    spsc = IntRingBuffer.spsc(CAPACITY, BackpressureStrategy.SPIN);
+    mpsc = IntRingBuffer.mpsc(CAPACITY, BackpressureStrategy.SPIN);
+    mpmc = IntRingBuffer.mpmc(CAPACITY, BackpressureStrategy.SPIN);
+    blocking = new ArrayBlockingQueue<>(CAPACITY);
+  }
+
+  @Benchmark
+  @Group("spsc")
+  @GroupThreads(1)
+  public boolean spscOffer() {
+    return spsc.offer(42);
+  }
+
+  @Benchmark
+  @Group("spsc")
+  @GroupThreads(1)
+  public int spscDrain(Blackhole bh) {
+    return spsc.drain(bh::consume, BATCH);
+  }
+
+  @Benchmark
+  @Group("mpsc")
+  @GroupThreads(4)
+  public boolean mpscOffer() {
+    return mpsc.offer(42);
+  }
+
+  @Benchmark
+  @Group("mpsc")
+  @GroupThreads(1)
+  public int mpscDrain(Blackhole bh) {
+    return mpsc.drain(bh::consume, BATCH);
+  }
+
+  @Benchmark
+  @Group("mpmc")
+  @GroupThreads(4)
+  public boolean mpmcOffer() {
+    return mpmc.offer(42);
+  }
+
+  @Benchmark
+  @Group("mpmc")
+  @GroupThreads(4)
+  public int mpmcDrain(Blackhole bh) {
+    return mpmc.drain(bh::consume, BATCH);
+  }
+
+  @Benchmark
+  @Group("arrayBlockingQueue")
+  @GroupThreads(4)
+  public boolean blockingOffer() {
+    return blocking.offer(42);
+  }
+
+  @Benchmark
+  @Group("arrayBlockingQueue")
+  @GroupThreads(4)
+  public Integer blockingPoll() {
+    return blocking.poll();
+  }
+}
@@ -0,0 +1,125 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.bitmap.RoaringBitmap;
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// RoaringBitmap comparado com DynamicArray ordenado + binarySearch como conjunto de IDs
+// DENSE: IDs consecutivos com poucas lacunas; SPARSE: IDs aleatórios em um universo 64x maior
+// A memória de cada representação é impressa no setup (sizeInBytes vs 4 bytes por ID)
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoaringBitmapBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000000"})
+  public int size;
+
+  @Param({"DENSE", "SPARSE"})
+  public String distribution;
+
+  private int[] queries;
+  private int pos;
+
+  private DynamicArray sortedA, sortedB;
+  private RoaringBitmap bitmapA, bitmapB;
+
+  @Setup
+  public void setup() {
+    sortedA = ids(1);
+    sortedB = ids(2);
+    bitmapA = RoaringBitmap.fromDynamicArray(sortedA);
+    bitmapB = RoaringBitmap.fromDynamicArray(sortedB);
+    bitmapA.runOptimize();
+    bitmapB.runOptimize();
+    System.out.println("\nDynamicArray: " + 4L * sortedA.size() + " bytes, RoaringBitmap: "
+        + bitmapA.sizeInBytes() + " bytes");
+
+    int[] idx = AccessPattern.RANDOM.indices(OPS, size);
+    queries = new int[OPS];
+    for (int i = 0; i < OPS; i++) queries[i] = sortedA.get(idx[i]) + (i & 1); // Metade presente
+  }
+
+  private DynamicArray ids(long seed) {
+    SplittableRandom rnd = new SplittableRandom(seed);
+    DynamicArray ids = new DynamicArray(size);
+    int v = 0;
+    for (int i = 0; i < size; i++) {
+      v += "DENSE".equals(distribution) ? (rnd.nextInt(100) == 0 ? 2 + rnd.nextInt(50) : 1) : 1 + rnd.nextInt(128);
+      ids.add(v);
+    }
+    return ids;
+  }
+
+  private int nextQuery() {
+    int q = queries[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return q;
+  }
+
+  // contains
+
+  @Benchmark
+  public boolean bitmapContains() {
+    return bitmapA.contains(nextQuery());
+  }
+
+  @Benchmark
+  public boolean sortedArrayContains() {
+    int q = nextQuery();
+    int i = sortedA.binarySearch(q);
+    return i < sortedA.size() && sortedA.get(i) == q;
+  }
+
+  // Interseção de dois conjuntos de `size` IDs
+
+  @Benchmark
+  public RoaringBitmap bitmapAnd() {
+    RoaringBitmap r = bitmapA.copy();
+    r.and(bitmapB);
+    return r;
+  }
+
+  @Benchmark
+  public DynamicArray sortedArrayAnd() {
+    DynamicArray out = new DynamicArray(Math.min(sortedA.size(), sortedB.size()));
+    int i = 0, j = 0, n = sortedA.size(), m = sortedB.size();
+    while (i < n && j < m) {
+      int a = sortedA.get(i), b = sortedB.get(j);
+      if (a < b) i++;
+      else if (b < a) j++;
+      else {
+        out.add(a);
+        i++;
+        j++;
+      }
+    }
+    return out;
+  }
+
+  // União
+
+  @Benchmark
+  public RoaringBitmap bitmapOr() {
+    RoaringBitmap r = bitmapA.copy();
+    r.or(bitmapB);
+    return r;
+  }
+}
@@ -0,0 +1,193 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.singlylinkedlist.SinglyLinkedList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// SinglyLinkedList comparada com LinkedList
+// Throughput + SampleTime (p99); use -prof gc para a taxa de alocação
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SinglyLinkedListBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "10000", "100000"})
+  public int size;
+
+  @Param({"SEQUENTIAL", "RANDOM"})
+  public AccessPattern pattern;
+
+  @Param({"INTEGER", "STRING"})
+  public ElementType elementType;
+
+  private Object[] values;
+  private int[] idx;
+  private int pos;
+
+  private SinglyLinkedList<Object> list;
+  private LinkedList<Object> linked;
+
+  @Setup
+  public void setup() {
+    values = elementType.box(AccessPattern.values(size));
+    idx = pattern.indices(OPS, size);
+
+    list = new SinglyLinkedList<>();
+    linked = new LinkedList<>();
+    for (Object v : values) {
+      list.add(v);
+      linked.add(v);
+    }
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  // add: constrói a estrutura a partir de vazia
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public SinglyLinkedList<Object> singlyAdd() {
+    SinglyLinkedList<Object> l = new SinglyLinkedList<>();
+    for (int i = 0; i < OPS; i++) l.add(values[i % size]);
+    return l;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public LinkedList<Object> linkedListAdd() {
+    LinkedList<Object> l = new LinkedList<>();
+    for (int i = 0; i < OPS; i++) l.add(values[i % size]);
+    return l;
+  }
+
+  // Uso como pilha: removeFirst + addFirst
+
+  @Benchmark
+  public void singlyStackCycle() {
+    list.addFirst(list.removeFirst());
+  }
+
+  @Benchmark
+  public void linkedListStackCycle() {
+    linked.addFirst(linked.removeFirst());
+  }
+
+  // Uso como pilha pelo tail: removeLast + addLast
+
+  @Benchmark
+  public void singlyTailStackCycle() {
+    list.addLast(list.removeLast());
+  }
+
+  @Benchmark
+  public void linkedListTailStackCycle() {
+    linked.addLast(linked.removeLast());
+  }
+
+  // Esvazia OPS elementos pelo tail e os devolve com addFirst, então cada rajada
+  // começa sem predecessores registrados
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public void singlyTailDrain() {
+    for (int i = 0; i < OPS; i++) list.addFirst(list.removeLast());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public void linkedListTailDrain() {
+    for (int i = 0; i < OPS; i++) linked.addFirst(linked.removeLast());
+  }
+
+  // get(i): SinglyLinkedList não possui get, então o percurso é feito pelo iterator
+
+  @Benchmark
+  public Object singlyGet() {
+    int i = nextIndex();
+    for (Object v : list) {
+      if (i-- == 0) return v;
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Object linkedListGet() {
+    return linked.get(nextIndex());
+  }
+
+  // removeAt
+
+  @Benchmark
+  public void singlyRemoveAt() {
+    list.addFirst(list.removeAt(nextIndex()));
+  }
+
+  @Benchmark
+  public void linkedListRemoveAt() {
+    linked.addFirst(linked.remove(nextIndex()));
+  }
+
+  // remove(Object)
+
+  @Benchmark
+  public boolean singlyRemove() {
+    Object v = values[nextIndex()];
+    boolean removed = list.remove(v);
+    list.addFirst(v);
+    return removed;
+  }
+
+  @Benchmark
+  public boolean linkedListRemove() {
+    Object v = values[nextIndex()];
+    boolean removed = linked.remove(v);
+    linked.addFirst(v);
+    return removed;
+  }
+
+  // indexOf
+
+  @Benchmark
+  public int singlyIndexOf() {
+    return list.indexOf(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int linkedListIndexOf() {
+    return linked.indexOf(values[nextIndex()]);
+  }
+
+  // iterate
+
+  @Benchmark
+  public void singlyIterate(Blackhole bh) {
+    for (Object v : list) bh.consume(v);
+  }
+
+  @Benchmark
+  public void linkedListIterate(Blackhole bh) {
+    for (Object v : linked) bh.consume(v);
+  }
+}
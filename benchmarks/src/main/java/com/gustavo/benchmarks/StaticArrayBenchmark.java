@@ -0,0 +1,178 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.staticarray.StaticArray;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// StaticArray comparado com int[] (ArrayList já é coberto em DynamicArrayBenchmark)
+// Throughput + SampleTime (p99); use -prof gc para a taxa de alocação
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticArrayBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  @Param({"SEQUENTIAL", "RANDOM"})
+  public AccessPattern pattern;
+
+  private int[] values;
+  private int[] sorted;
+  private int[] idx;
+  private int pos;
+
+  private StaticArray array;
+  private StaticArray arraySorted;
+  private int[] plain;
+
+  @Setup
+  public void setup() {
+    values = AccessPattern.values(size);
+    sorted = values.clone();
+    Arrays.sort(sorted);
+    idx = pattern.indices(OPS, size);
+
+    array = fill(values);
+    arraySorted = fill(sorted);
+    plain = values.clone();
+  }
+
+  private static StaticArray fill(int[] src) {
+    StaticArray a = new StaticArray(src.length);
+    for (int v : src) a.add(v);
+    return a;
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  @Benchmark
+  public int staticGet() {
+    return array.get(nextIndex());
+  }
+
+  @Benchmark
+  public int intArrayGet() {
+    return plain[nextIndex()];
+  }
+
+  @Benchmark
+  public void staticSet() {
+    int i = nextIndex();
+    array.set(i, values[i]);
+  }
+
+  @Benchmark
+  public void intArraySet() {
+    int i = nextIndex();
+    plain[i] = values[i];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(OPS)
+  public StaticArray staticAdd() {
+    StaticArray a = new StaticArray(OPS);
+    for (int i = 0; i < OPS; i++) a.add(values[i % size]);
+    return a;
+  }
+
+  // removeAt: remove uma posição e reinsere no final para manter o tamanho estável
+  @Benchmark
+  public void staticRemoveAt() {
+    int i = nextIndex();
+    int v = array.get(i);
+    array.removeAt(i);
+    array.add(v);
+  }
+
+  @Benchmark
+  public void intArrayRemoveAt() {
+    int i = nextIndex();
+    int v = plain[i];
+    System.arraycopy(plain, i + 1, plain, i, plain.length - i - 1);
+    plain[plain.length - 1] = v;
+  }
+
+  @Benchmark
+  public boolean staticRemove() {
+    int v = values[nextIndex()];
+    boolean removed = array.remove(v);
+    array.add(v);
+    return removed;
+  }
+
+  // indexOf: StaticArray não expõe indexOf, então a busca linear é feita via get()
+  @Benchmark
+  public int staticIndexOf() {
+    int v = values[nextIndex()];
+    for (int i = 0; i < array.size(); i++) {
+      if (array.get(i) == v) return i;
+    }
+    return -1;
+  }
+
+  @Benchmark
+  public int intArrayIndexOf() {
+    int v = values[nextIndex()];
+    for (int i = 0; i < plain.length; i++) {
+      if (plain[i] == v) return i;
+    }
+    return -1;
+  }
+
+  @Benchmark
+  public void staticIterate(Blackhole bh) {
+    for (int v : array) bh.consume(v);
+  }
+
+  @Benchmark
+  public void intArrayIterate(Blackhole bh) {
+    for (int v : plain) bh.consume(v);
+  }
+
+  @Benchmark
+  public StaticArray staticSort() {
+    StaticArray a = fill(values);
+    a.sort();
+    return a;
+  }
+
+  @Benchmark
+  public int[] intArraySort() {
+    int[] a = values.clone();
+    Arrays.sort(a);
+    return a;
+  }
+
+  @Benchmark
+  public int staticBinarySearch() {
+    return arraySorted.binarySearch(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int intArrayBinarySearch() {
+    return Arrays.binarySearch(sorted, values[nextIndex()]);
+  }
+}
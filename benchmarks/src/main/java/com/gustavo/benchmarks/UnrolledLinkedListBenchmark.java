@@ -0,0 +1,128 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.singlylinkedlist.SinglyLinkedList;
+import com.gustavo.datastructures.unrolledlinkedlist.UnrolledLinkedList;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// UnrolledLinkedList comparada com SinglyLinkedList (um node por elemento) e ArrayList
+// Os elementos são inseridos em posições aleatórias no setup para que os nodes da
+// SinglyLinkedList fiquem espalhados no heap, como em uma lista de longa duração
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnrolledLinkedListBenchmark {
+
+  private static final int OPS = 1024;
+
+  @Param({"10000", "100000"})
+  public int size;
+
+  @Param({"16", "64"})
+  public int nodeCapacity;
+
+  private Integer[] values;
+  private int[] idx;
+  private int pos;
+
+  private UnrolledLinkedList<Integer> unrolled;
+  private SinglyLinkedList<Integer> singly;
+  private ArrayList<Integer> arrayList;
+
+  @Setup
+  public void setup() throws Exception {
+    int[] raw = AccessPattern.values(size);
+    values = new Integer[size];
+    for (int i = 0; i < size; i++) values[i] = raw[i];
+    idx = AccessPattern.RANDOM.indices(OPS, size);
+
+    unrolled = new UnrolledLinkedList<>(nodeCapacity);
+    singly = new SinglyLinkedList<>();
+    arrayList = new ArrayList<>(size);
+    int[] at = AccessPattern.RANDOM.indices(size, Integer.MAX_VALUE);
+    for (int i = 0; i < size; i++) {
+      int p = at[i] % (i + 1);
+      unrolled.addAt(p, values[i]);
+      singly.addAt(p, values[i]);
+      arrayList.add(p, values[i]);
+    }
+  }
+
+  private int nextIndex() {
+    int i = idx[pos];
+    pos = (pos + 1) & (OPS - 1);
+    return i;
+  }
+
+  // iterate
+
+  @Benchmark
+  public void unrolledIterate(Blackhole bh) {
+    for (Integer v : unrolled) bh.consume(v);
+  }
+
+  @Benchmark
+  public void singlyIterate(Blackhole bh) {
+    for (Integer v : singly) bh.consume(v);
+  }
+
+  @Benchmark
+  public void arrayListIterate(Blackhole bh) {
+    for (Integer v : arrayList) bh.consume(v);
+  }
+
+  // indexOf
+
+  @Benchmark
+  public int unrolledIndexOf() {
+    return unrolled.indexOf(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int singlyIndexOf() {
+    return singly.indexOf(values[nextIndex()]);
+  }
+
+  @Benchmark
+  public int arrayListIndexOf() {
+    return arrayList.indexOf(values[nextIndex()]);
+  }
+
+  // addAt + removeAt na mesma posição, mantendo o tamanho estável
+
+  @Benchmark
+  public Integer unrolledInsertRemove() throws Exception {
+    int i = nextIndex();
+    unrolled.addAt(i, values[i]);
+    return unrolled.removeAt(i);
+  }
+
+  @Benchmark
+  public Integer singlyInsertRemove() throws Exception {
+    int i = nextIndex();
+    singly.addAt(i, values[i]);
+    return singly.removeAt(i);
+  }
+
+  @Benchmark
+  public Integer arrayListInsertRemove() {
+    int i = nextIndex();
+    arrayList.add(i, values[i]);
+    return arrayList.remove(i);
+  }
+}
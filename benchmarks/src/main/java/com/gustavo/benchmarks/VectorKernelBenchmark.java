@@ -0,0 +1,158 @@
+package com.gustavo.benchmarks;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Varreduras do DynamicArray com laços escalares e com a Vector API. Os métodos
+// *Vector rodam em um fork com --add-modules jdk.incubator.vector; os demais no fork
+// padrão, onde o módulo não está presente e IntKernels usa o caminho escalar.
+// Cada operação é uma varredura completa: compare ops/us entre os pares.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorKernelBenchmark {
+
+  private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private DynamicArray array;
+  private DynamicArray scratch;
+
+  @Setup
+  public void setup() {
+    // Valores em [0, size) embaralhados: filterRange(0, size / 2) seleciona cerca de metade
+    // dos elementos, com máscaras mistas em quase todos os vetores
+    array = new DynamicArray(size);
+    scratch = new DynamicArray(size);
+    for (int i = 0; i < size; i++) {
+      array.add((int) ((i * 0x9E3779B9L) % size));
+      scratch.add(i);
+    }
+  }
+
+  // sum
+
+  @Benchmark
+  public long sumScalar() {
+    return array.sum();
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public long sumVector() {
+    return array.sum();
+  }
+
+  // min / max
+
+  @Benchmark
+  public int minMaxScalar() {
+    return array.min() ^ array.max();
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public int minMaxVector() {
+    return array.min() ^ array.max();
+  }
+
+  // indexOf sem sucesso: percorre o array inteiro (também o laço de busca de remove(int))
+
+  @Benchmark
+  public int indexOfScalar() {
+    return array.indexOf(-1);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public int indexOfVector() {
+    return array.indexOf(-1);
+  }
+
+  // count
+
+  @Benchmark
+  public int countScalar() {
+    return array.count(size / 2);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public int countVector() {
+    return array.count(size / 2);
+  }
+
+  // reverse (duas chamadas mantêm o array e a flag de ordenação estáveis)
+
+  @Benchmark
+  public DynamicArray reverseScalar() {
+    array.reverse();
+    array.reverse();
+    return array;
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public DynamicArray reverseVector() {
+    array.reverse();
+    array.reverse();
+    return array;
+  }
+
+  // filterRange com metade dos elementos selecionados
+
+  @Benchmark
+  public DynamicArray filterRangeScalar() {
+    return array.filterRange(0, size / 2);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public DynamicArray filterRangeVector() {
+    return array.filterRange(0, size / 2);
+  }
+
+  // filterRange seletivo (1% dos elementos): a maioria dos vetores é descartada inteira
+
+  @Benchmark
+  public DynamicArray filterRangeSelectiveScalar() {
+    return array.filterRange(0, size / 100);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public DynamicArray filterRangeSelectiveVector() {
+    return array.filterRange(0, size / 100);
+  }
+
+  // fill (em um array separado, para não alterar os dados das outras medições)
+
+  @Benchmark
+  public DynamicArray fillScalar() {
+    scratch.fill(size);
+    return scratch;
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = VECTOR)
+  public DynamicArray fillVector() {
+    scratch.fill(size);
+    return scratch;
+  }
+}
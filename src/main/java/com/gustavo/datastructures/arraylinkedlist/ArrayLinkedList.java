@@ -0,0 +1,360 @@
+package com.gustavo.datastructures.arraylinkedlist;
+
+import com.gustavo.datastructures.util.Appendables;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Lista duplamente ligada sem objetos Node: cada node é um slot em três arrays paralelos
+// (elems, next, prev) e os links são índices. Slots removidos formam uma free list ligada
+// por `next` e são reusados, então inserções e remoções não alocam depois que os arrays
+// atingem o tamanho de trabalho. Mesma API pública da DoublyLinkedList.
+public class ArrayLinkedList<T> implements Iterable<T> {
+
+  private static final int NIL = -1;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private Object[] elems;
+  private int[] next;
+  private int[] prev;
+
+  private int size = 0;
+  private int head = NIL;
+  private int tail = NIL;
+  private int free = NIL; // Primeiro slot livre já usado antes
+  private int used = 0; // Slots [used, capacidade) nunca foram usados
+
+  public ArrayLinkedList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ArrayLinkedList(int capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    elems = new Object[capacity];
+    next = new int[capacity];
+    prev = new int[capacity];
+  }
+
+  // Limpar Linked List, O(n)
+  public void clear() {
+    Arrays.fill(elems, 0, used, null);
+    head = tail = free = NIL;
+    used = 0;
+    size = 0;
+  }
+
+  // Retorna o tamanho da Linked List
+  public int size() {
+    return size;
+  }
+
+  // Retorna se a lista está vazio
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Retorna quantos nodes cabem nos arrays sem realocação
+  public int capacity() {
+    return elems.length;
+  }
+
+  // Adiciona um elemento ao tail da Lista, O(1)
+  public void add(T elem) {
+    addLast(elem);
+  }
+
+  // Adiciona um node ao tail da lista, O(1) amortizado
+  public void addLast(T elem) {
+    int node = allocate(elem, tail, NIL);
+    if (isEmpty()) head = node;
+    else next[tail] = node;
+    tail = node;
+    size++;
+  }
+
+  // Adiciona node ao head ta lista, O(1) amortizado
+  public void addFirst(T elem) {
+    int node = allocate(elem, NIL, head);
+    if (isEmpty()) tail = node;
+    else prev[head] = node;
+    head = node;
+    size++;
+  }
+
+  // Adiciona um elemento em um índice específico
+  public void addAt(int index, T data) throws Exception {
+    if (index < 0 || index > size) {
+      throw new Exception("Illegal Index");
+    }
+    if (index == 0) {
+      addFirst(data);
+      return;
+    }
+    if (index == size) {
+      addLast(data);
+      return;
+    }
+
+    int temp = nodeAt(index - 1);
+    int node = allocate(data, temp, next[temp]);
+    prev[next[temp]] = node;
+    next[temp] = node;
+
+    size++;
+  }
+
+  // Retorna o valor em um índice particular, O(n)
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    return elem(nodeAt(index));
+  }
+
+  // Verifica o valor do primeiro node se existir, O(1)
+  public T peekFirst() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return elem(head);
+  }
+
+  // Verifica o valor do último node se existir, O(1)
+  public T peekLast() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return elem(tail);
+  }
+
+  // Remove o primeiro valor da lista, O(1)
+  public T removeFirst() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return remove(head);
+  }
+
+  // Remove o último valor da lista, O(1)
+  public T removeLast() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return remove(tail);
+  }
+
+  // Remove node em um índice particular, O(n)
+  public T removeAt(int index) {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException();
+    }
+    return remove(nodeAt(index));
+  }
+
+  // Remove um valor particular na lista, O(n)
+  public boolean remove(Object obj) {
+    int node = find(obj);
+    if (node == NIL) return false;
+    remove(node);
+    return true;
+  }
+
+  // Encontra o índice de um valor particular na lista, O(n)
+  public int indexOf(Object obj) {
+    int index = 0;
+    if (obj == null) {
+      for (int trav = head; trav != NIL; trav = next[trav], index++) {
+        if (elems[trav] == null) return index;
+      }
+    } else {
+      for (int trav = head; trav != NIL; trav = next[trav], index++) {
+        if (obj.equals(elems[trav])) return index;
+      }
+    }
+    return -1;
+  }
+
+  // Verifica se um valor está contido na lista
+  public boolean contains(Object obj) {
+    return indexOf(obj) != -1;
+  }
+
+  // Move a primeira ocorrência de um valor para o head da lista, O(n)
+  public boolean moveToFront(Object obj) {
+    int node = find(obj);
+    if (node == NIL) return false;
+    if (node != head) {
+      unlink(node);
+      prev[node] = NIL;
+      next[node] = head;
+      prev[head] = node;
+      head = node;
+    }
+    return true;
+  }
+
+  // Move a primeira ocorrência de um valor para o tail da lista, O(n)
+  public boolean moveToBack(Object obj) {
+    int node = find(obj);
+    if (node == NIL) return false;
+    if (node != tail) {
+      unlink(node);
+      next[node] = NIL;
+      prev[node] = tail;
+      next[tail] = node;
+      tail = node;
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T elem(int node) {
+    return (T) elems[node];
+  }
+
+  // Slot da primeira ocorrência de um valor, ou NIL
+  private int find(Object obj) {
+    for (int trav = head; trav != NIL; trav = next[trav]) {
+      if (obj == null ? elems[trav] == null : obj.equals(elems[trav])) return trav;
+    }
+    return NIL;
+  }
+
+  // Localiza o slot de um índice válido, percorrendo a partir do extremo mais próximo
+  private int nodeAt(int index) {
+    int trav;
+    if (index < size / 2) {
+      trav = head;
+      for (int i = 0; i != index; i++) trav = next[trav];
+    } else {
+      trav = tail;
+      for (int i = size - 1; i != index; i--) trav = prev[trav];
+    }
+    return trav;
+  }
+
+  // Obtém um slot livre (da free list ou ainda não usado) e o preenche, O(1) amortizado
+  private int allocate(T elem, int p, int n) {
+    int node;
+    if (free != NIL) {
+      node = free;
+      free = next[node];
+    } else {
+      if (used == elems.length) grow();
+      node = used++;
+    }
+    elems[node] = elem;
+    prev[node] = p;
+    next[node] = n;
+    return node;
+  }
+
+  private void grow() {
+    int capacity = Math.max(DEFAULT_CAPACITY, elems.length * 2);
+    elems = Arrays.copyOf(elems, capacity);
+    next = Arrays.copyOf(next, capacity);
+    prev = Arrays.copyOf(prev, capacity);
+  }
+
+  // Desliga um slot da lista sem liberá-lo
+  private void unlink(int node) {
+    int p = prev[node], n = next[node];
+    if (p == NIL) head = n;
+    else next[p] = n;
+    if (n == NIL) tail = p;
+    else prev[n] = p;
+  }
+
+  // Remove um slot arbitrário da lista e o devolve à free list, O(1)
+  private T remove(int node) {
+    unlink(node);
+    T data = elem(node);
+    elems[node] = null;
+    next[node] = free;
+    free = node;
+    --size;
+    return data;
+  }
+
+  @Override
+  public java.util.Iterator<T> iterator() {
+    return new java.util.Iterator<T>() {
+      private int trav = head;
+
+      @Override
+      public boolean hasNext() {
+        return trav != NIL;
+      }
+
+      @Override
+      public T next() {
+        if (trav == NIL) throw new NoSuchElementException();
+        T data = elem(trav);
+        trav = next[trav];
+        return data;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, size);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append("[ ");
+    int shown = 0;
+    for (int trav = head; trav != NIL && shown < maxElements; trav = next[trav], shown++) {
+      if (shown > 0) out.append(", ");
+      Appendables.appendObject(out, elems[trav], scratch);
+    }
+    if (shown < size) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, size - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(" ]");
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de listas grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(size, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toString(size);
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    ArrayLinkedList<Integer> ar = new ArrayLinkedList<Integer>();
+    ar.add(3);
+    ar.add(7);
+    ar.add(6);
+    ar.add(-2);
+    ar.add(5);
+
+    System.out.println(ar); // [ 3, 7, 6, -2, 5 ]
+
+    ar.removeAt(2);
+    ar.addFirst(1); // Reusa o slot liberado por removeAt
+
+    System.out.println(ar); // [ 1, 3, 7, -2, 5 ]
+  }
+}
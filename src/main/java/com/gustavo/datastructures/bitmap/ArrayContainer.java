@@ -0,0 +1,163 @@
+package com.gustavo.datastructures.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Container esparso: até 4096 valores ordenados em um char[] (2 bytes por valor)
+final class ArrayContainer extends Container {
+
+  private char[] content;
+  private int card;
+
+  ArrayContainer() {
+    this(4);
+  }
+
+  ArrayContainer(int capacity) {
+    content = new char[capacity];
+  }
+
+  ArrayContainer(char[] content, int card) {
+    this.content = content;
+    this.card = card;
+  }
+
+  @Override
+  int cardinality() {
+    return card;
+  }
+
+  @Override
+  boolean contains(int x) {
+    return Arrays.binarySearch(content, 0, card, (char) x) >= 0;
+  }
+
+  @Override
+  Container add(int x) {
+    int i = Arrays.binarySearch(content, 0, card, (char) x);
+    if (i >= 0) return this;
+    if (card == MAX_ARRAY_SIZE) return toBitmap().add(x);
+    i = -i - 1;
+    if (card == content.length) {
+      content = Arrays.copyOf(content, Math.min(MAX_ARRAY_SIZE, Math.max(4, card + (card >> 1))));
+    }
+    System.arraycopy(content, i, content, i + 1, card - i);
+    content[i] = (char) x;
+    card++;
+    return this;
+  }
+
+  // Adiciona um valor maior que todos os atuais, usado na construção ordenada
+  Container append(int x) {
+    if (card == MAX_ARRAY_SIZE) return toBitmap().add(x);
+    if (card == content.length) {
+      content = Arrays.copyOf(content, Math.min(MAX_ARRAY_SIZE, Math.max(4, card + (card >> 1))));
+    }
+    content[card++] = (char) x;
+    return this;
+  }
+
+  @Override
+  Container remove(int x) {
+    int i = Arrays.binarySearch(content, 0, card, (char) x);
+    if (i < 0) return this;
+    System.arraycopy(content, i + 1, content, i, card - i - 1);
+    card--;
+    return this;
+  }
+
+  @Override
+  int rank(int x) {
+    int i = Arrays.binarySearch(content, 0, card, (char) x);
+    return i >= 0 ? i + 1 : -i - 1;
+  }
+
+  @Override
+  int select(int j) {
+    return content[j];
+  }
+
+  @Override
+  void forEach(int base, IntConsumer action) {
+    for (int i = 0; i < card; i++) action.accept(base | content[i]);
+  }
+
+  @Override
+  BitmapContainer toBitmap() {
+    BitmapContainer bitmap = new BitmapContainer();
+    for (int i = 0; i < card; i++) bitmap.set(content[i]);
+    return bitmap;
+  }
+
+  @Override
+  int sizeInBytes() {
+    return 2 * card;
+  }
+
+  @Override
+  int numberOfRuns() {
+    if (card == 0) return 0;
+    int runs = 1;
+    for (int i = 1; i < card; i++) {
+      if (content[i] != content[i - 1] + 1) runs++;
+    }
+    return runs;
+  }
+
+  @Override
+  Container copy() {
+    return new ArrayContainer(Arrays.copyOf(content, card), card);
+  }
+
+  // Mantém os valores contidos (keep = true) ou não contidos (keep = false) em `other`
+  Container filter(Container other, boolean keep) {
+    char[] out = new char[card];
+    int n = 0;
+    for (int i = 0; i < card; i++) {
+      if (other.contains(content[i]) == keep) out[n++] = content[i];
+    }
+    return new ArrayContainer(out, n);
+  }
+
+  // Interseção por intercalação, O(a + b)
+  static Container intersect(ArrayContainer a, ArrayContainer b) {
+    char[] out = new char[Math.min(a.card, b.card)];
+    int i = 0, j = 0, n = 0;
+    while (i < a.card && j < b.card) {
+      char x = a.content[i], y = b.content[j];
+      if (x < y) {
+        i++;
+      } else if (y < x) {
+        j++;
+      } else {
+        out[n++] = x;
+        i++;
+        j++;
+      }
+    }
+    return new ArrayContainer(out, n);
+  }
+
+  // União (xor = false) ou diferença simétrica (xor = true) por intercalação
+  static Container merge(ArrayContainer a, ArrayContainer b, boolean xor) {
+    char[] out = new char[a.card + b.card];
+    int i = 0, j = 0, n = 0;
+    while (i < a.card && j < b.card) {
+      char x = a.content[i], y = b.content[j];
+      if (x < y) {
+        out[n++] = x;
+        i++;
+      } else if (y < x) {
+        out[n++] = y;
+        j++;
+      } else {
+        if (!xor) out[n++] = x;
+        i++;
+        j++;
+      }
+    }
+    while (i < a.card) out[n++] = a.content[i++];
+    while (j < b.card) out[n++] = b.content[j++];
+    return new ArrayContainer(out, n);
+  }
+}
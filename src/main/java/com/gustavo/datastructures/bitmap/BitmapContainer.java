@@ -0,0 +1,257 @@
+package com.gustavo.datastructures.bitmap;
+
+import java.util.function.IntConsumer;
+
+// Container denso: 65536 bits em 1024 longs (8 KiB fixos)
+// As operações de conjunto processam 64 valores por instrução
+final class BitmapContainer extends Container {
+
+  private static final int WORDS = 1024;
+
+  private final long[] words;
+  private int card;
+
+  BitmapContainer() {
+    this.words = new long[WORDS];
+  }
+
+  private BitmapContainer(long[] words, int card) {
+    this.words = words;
+    this.card = card;
+  }
+
+  // Marca o valor sem retornar um novo container, usado nas conversões
+  void set(int x) {
+    long before = words[x >>> 6];
+    long after = before | (1L << x);
+    words[x >>> 6] = after;
+    if (before != after) card++;
+  }
+
+  // Marca todos os valores em [lo, hi], uma palavra por vez; chame recount() ao final
+  void setRange(int lo, int hi) {
+    int first = lo >>> 6, last = hi >>> 6;
+    long firstMask = -1L << lo;
+    long lastMask = -1L >>> (63 - (hi & 63));
+    if (first == last) {
+      words[first] |= firstMask & lastMask;
+    } else {
+      words[first] |= firstMask;
+      for (int w = first + 1; w < last; w++) words[w] = -1L;
+      words[last] |= lastMask;
+    }
+  }
+
+  @Override
+  int cardinality() {
+    return card;
+  }
+
+  @Override
+  boolean contains(int x) {
+    return (words[x >>> 6] & (1L << x)) != 0;
+  }
+
+  @Override
+  Container add(int x) {
+    set(x);
+    return this;
+  }
+
+  @Override
+  Container remove(int x) {
+    long before = words[x >>> 6];
+    long after = before & ~(1L << x);
+    if (before == after) return this;
+    words[x >>> 6] = after;
+    card--;
+    return repair();
+  }
+
+  @Override
+  int rank(int x) {
+    int w = x >>> 6;
+    int r = 0;
+    for (int i = 0; i < w; i++) r += Long.bitCount(words[i]);
+    return r + Long.bitCount(words[w] & (-1L >>> (63 - (x & 63))));
+  }
+
+  @Override
+  int select(int j) {
+    for (int i = 0; i < WORDS; i++) {
+      long w = words[i];
+      int c = Long.bitCount(w);
+      if (j < c) {
+        for (; j > 0; j--) w &= w - 1; // Descarta os j bits menos significativos
+        return (i << 6) + Long.numberOfTrailingZeros(w);
+      }
+      j -= c;
+    }
+    throw new IndexOutOfBoundsException("Index out of range.");
+  }
+
+  @Override
+  void forEach(int base, IntConsumer action) {
+    for (int i = 0; i < WORDS; i++) {
+      long w = words[i];
+      while (w != 0) {
+        action.accept(base | ((i << 6) + Long.numberOfTrailingZeros(w)));
+        w &= w - 1;
+      }
+    }
+  }
+
+  @Override
+  BitmapContainer toBitmap() {
+    return new BitmapContainer(words.clone(), card);
+  }
+
+  @Override
+  int sizeInBytes() {
+    return 8 * WORDS;
+  }
+
+  @Override
+  int numberOfRuns() {
+    // Um run começa em cada bit 1 cujo bit anterior é 0
+    int runs = 0;
+    long carry = 0;
+    for (int i = 0; i < WORDS; i++) {
+      long w = words[i];
+      runs += Long.bitCount(w & ~((w << 1) | carry));
+      carry = w >>> 63;
+    }
+    return runs;
+  }
+
+  @Override
+  Container copy() {
+    return toBitmap();
+  }
+
+  // Desmarca todos os valores em [lo, hi]; chame recount() ao final
+  void clearRange(int lo, int hi) {
+    int first = lo >>> 6, last = hi >>> 6;
+    long firstMask = -1L << lo;
+    long lastMask = -1L >>> (63 - (hi & 63));
+    if (first == last) {
+      words[first] &= ~(firstMask & lastMask);
+    } else {
+      words[first] &= ~firstMask;
+      for (int w = first + 1; w < last; w++) words[w] = 0;
+      words[last] &= ~lastMask;
+    }
+  }
+
+  // Inverte todos os valores em [lo, hi]; chame recount() ao final
+  void flipRange(int lo, int hi) {
+    int first = lo >>> 6, last = hi >>> 6;
+    long firstMask = -1L << lo;
+    long lastMask = -1L >>> (63 - (hi & 63));
+    if (first == last) {
+      words[first] ^= firstMask & lastMask;
+    } else {
+      words[first] ^= firstMask;
+      for (int w = first + 1; w < last; w++) words[w] = ~words[w];
+      words[last] ^= lastMask;
+    }
+  }
+
+  // Operações in-place: modificam as palavras deste container diretamente. `other`
+  // nunca é convertido para bitmap; arrays são aplicados valor a valor e runs
+  // intervalo a intervalo
+
+  @Override
+  Container iand(Container other) {
+    // O resultado tem no máximo os valores do array: filtra o array em vez das palavras
+    if (other instanceof ArrayContainer) return ((ArrayContainer) other).filter(this, true);
+    if (other instanceof RunContainer) {
+      RunContainer r = (RunContainer) other;
+      int from = 0; // Limpa os intervalos entre os runs
+      for (int i = 0; i < r.numberOfRuns(); i++) {
+        if (r.start(i) > from) clearRange(from, r.start(i) - 1);
+        from = r.end(i) + 1;
+      }
+      if (from <= 0xFFFF) clearRange(from, 0xFFFF);
+    } else {
+      long[] o = ((BitmapContainer) other).words;
+      for (int i = 0; i < WORDS; i++) words[i] &= o[i];
+    }
+    return recount().repair();
+  }
+
+  @Override
+  Container ior(Container other) {
+    if (other instanceof ArrayContainer) {
+      ArrayContainer a = (ArrayContainer) other;
+      for (int i = 0; i < a.cardinality(); i++) set(a.select(i));
+      return this; // set() já mantém a cardinalidade
+    }
+    if (other instanceof RunContainer) {
+      RunContainer r = (RunContainer) other;
+      for (int i = 0; i < r.numberOfRuns(); i++) setRange(r.start(i), r.end(i));
+    } else {
+      long[] o = ((BitmapContainer) other).words;
+      for (int i = 0; i < WORDS; i++) words[i] |= o[i];
+    }
+    return recount();
+  }
+
+  @Override
+  Container iandNot(Container other) {
+    if (other instanceof ArrayContainer) {
+      ArrayContainer a = (ArrayContainer) other;
+      for (int i = 0; i < a.cardinality(); i++) {
+        int x = a.select(i);
+        words[x >>> 6] &= ~(1L << x);
+      }
+    } else if (other instanceof RunContainer) {
+      RunContainer r = (RunContainer) other;
+      for (int i = 0; i < r.numberOfRuns(); i++) clearRange(r.start(i), r.end(i));
+    } else {
+      long[] o = ((BitmapContainer) other).words;
+      for (int i = 0; i < WORDS; i++) words[i] &= ~o[i];
+    }
+    return recount().repair();
+  }
+
+  @Override
+  Container ixor(Container other) {
+    if (other instanceof ArrayContainer) {
+      ArrayContainer a = (ArrayContainer) other;
+      for (int i = 0; i < a.cardinality(); i++) {
+        int x = a.select(i);
+        words[x >>> 6] ^= 1L << x;
+      }
+    } else if (other instanceof RunContainer) {
+      RunContainer r = (RunContainer) other;
+      for (int i = 0; i < r.numberOfRuns(); i++) flipRange(r.start(i), r.end(i));
+    } else {
+      long[] o = ((BitmapContainer) other).words;
+      for (int i = 0; i < WORDS; i++) words[i] ^= o[i];
+    }
+    return recount().repair();
+  }
+
+  BitmapContainer recount() {
+    int c = 0;
+    for (long w : words) c += Long.bitCount(w);
+    card = c;
+    return this;
+  }
+
+  // Volta para ArrayContainer quando a cardinalidade cabe nele
+  Container repair() {
+    if (card > MAX_ARRAY_SIZE) return this;
+    char[] content = new char[card];
+    int n = 0;
+    for (int i = 0; i < WORDS; i++) {
+      long w = words[i];
+      while (w != 0) {
+        content[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(w));
+        w &= w - 1;
+      }
+    }
+    return new ArrayContainer(content, card);
+  }
+}
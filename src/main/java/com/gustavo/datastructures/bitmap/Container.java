@@ -0,0 +1,97 @@
+package com.gustavo.datastructures.bitmap;
+
+import java.util.function.IntConsumer;
+
+// Conjunto dos 16 bits inferiores dos valores de um chunk do RoaringBitmap
+//
+// Operações de escrita podem trocar a representação e por isso retornam o container
+// resultante, que substitui o atual. Valores são ints em [0, 65535].
+abstract class Container {
+
+  static final int MAX_ARRAY_SIZE = 4096; // Acima disso o bitmap (8 KiB) é menor
+
+  abstract int cardinality();
+
+  abstract boolean contains(int x);
+
+  abstract Container add(int x);
+
+  abstract Container remove(int x);
+
+  // Número de valores <= x
+  abstract int rank(int x);
+
+  // j-ésimo menor valor, 0 <= j < cardinality()
+  abstract int select(int j);
+
+  // Chama action com base | valor para cada valor em ordem crescente
+  abstract void forEach(int base, IntConsumer action);
+
+  // Cópia como BitmapContainer
+  abstract BitmapContainer toBitmap();
+
+  abstract int sizeInBytes();
+
+  abstract int numberOfRuns();
+
+  abstract Container copy();
+
+  // Converte para RunContainer se isso reduzir a memória
+  Container runOptimize() {
+    int runs = numberOfRuns();
+    if (RunContainer.sizeInBytes(runs) < sizeInBytes()) return RunContainer.from(this, runs);
+    return this;
+  }
+
+  // Versões in-place das operações de conjunto, usadas pelo RoaringBitmap no container
+  // que ele possui: podem modificar e retornar este container; `other` nunca é modificado.
+  // Por padrão criam um novo container; BitmapContainer altera as suas palavras.
+
+  Container iand(Container other) {
+    return and(this, other);
+  }
+
+  Container ior(Container other) {
+    return or(this, other);
+  }
+
+  Container iandNot(Container other) {
+    return andNot(this, other);
+  }
+
+  Container ixor(Container other) {
+    return xor(this, other);
+  }
+
+  // Operações de conjunto; os argumentos não são modificados e o resultado pode estar vazio
+
+  static Container and(Container a, Container b) {
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+      return ArrayContainer.intersect((ArrayContainer) a, (ArrayContainer) b);
+    }
+    if (a instanceof ArrayContainer) return ((ArrayContainer) a).filter(b, true);
+    if (b instanceof ArrayContainer) return ((ArrayContainer) b).filter(a, true);
+    return a.toBitmap().iand(b);
+  }
+
+  static Container or(Container a, Container b) {
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer
+        && a.cardinality() + b.cardinality() <= MAX_ARRAY_SIZE) {
+      return ArrayContainer.merge((ArrayContainer) a, (ArrayContainer) b, false);
+    }
+    return a.toBitmap().ior(b);
+  }
+
+  static Container andNot(Container a, Container b) {
+    if (a instanceof ArrayContainer) return ((ArrayContainer) a).filter(b, false);
+    return a.toBitmap().iandNot(b);
+  }
+
+  static Container xor(Container a, Container b) {
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer
+        && a.cardinality() + b.cardinality() <= MAX_ARRAY_SIZE) {
+      return ArrayContainer.merge((ArrayContainer) a, (ArrayContainer) b, true);
+    }
+    return a.toBitmap().ixor(b);
+  }
+}
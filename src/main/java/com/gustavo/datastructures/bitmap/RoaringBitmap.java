@@ -0,0 +1,422 @@
+package com.gustavo.datastructures.bitmap;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import com.gustavo.datastructures.util.Appendables;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Conjunto de int comprimido no estilo Roaring
+//
+// Os valores são divididos em chunks pelos 16 bits superiores; cada chunk presente tem um
+// container com os 16 bits inferiores em uma de três representações:
+//   ArrayContainer  - até 4096 valores ordenados, 2 bytes por valor
+//   BitmapContainer - 65536 bits, 8 KiB fixos; and/or/andNot/xor uma palavra de 64 bits por vez
+//   RunContainer    - intervalos (início, comprimento), 4 bytes por intervalo
+// add/remove trocam entre array e bitmap automaticamente; runOptimize() converte para runs
+// onde isso reduz a memória (addRange já cria runs para chunks inteiros).
+//
+// Os valores são ordenados como int com sinal (o bit de sinal é invertido internamente),
+// então a iteração é crescente e compatível com um DynamicArray ordenado.
+public class RoaringBitmap {
+
+  private char[] keys = new char[4]; // 16 bits superiores de cada chunk, crescentes
+  private Container[] containers = new Container[4];
+  private int size = 0; // Número de chunks
+
+  // Bit de sinal invertido: a ordem sem sinal das chaves internas é a ordem com sinal dos valores
+  private static int key(int x) {
+    return x ^ Integer.MIN_VALUE;
+  }
+
+  private static char high(int key) {
+    return (char) (key >>> 16);
+  }
+
+  private static int low(int key) {
+    return key & 0xFFFF;
+  }
+
+  // Posição do chunk, ou -(inserção) - 1
+  private int find(char high) {
+    return Arrays.binarySearch(keys, 0, size, high);
+  }
+
+  private void insertChunk(int i, char high, Container c) {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      containers = Arrays.copyOf(containers, size * 2);
+    }
+    System.arraycopy(keys, i, keys, i + 1, size - i);
+    System.arraycopy(containers, i, containers, i + 1, size - i);
+    keys[i] = high;
+    containers[i] = c;
+    size++;
+  }
+
+  private void removeChunk(int i) {
+    System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+    System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+    containers[--size] = null;
+  }
+
+  // Cria um bitmap com os valores dados
+  public static RoaringBitmap of(int... values) {
+    if (values == null) throw new IllegalArgumentException("Array cannot be null");
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int v : values) bitmap.add(v);
+    return bitmap;
+  }
+
+  // Cria um bitmap com os elementos de um DynamicArray
+  // Arrays ordenados são carregados em uma única passada, anexando ao último chunk
+  public static RoaringBitmap fromDynamicArray(DynamicArray array) {
+    if (array == null) throw new IllegalArgumentException("Array cannot be null");
+    RoaringBitmap bitmap = new RoaringBitmap();
+    int n = array.size();
+    if (!array.isSorted()) {
+      for (int i = 0; i < n; i++) bitmap.add(array.get(i));
+      return bitmap;
+    }
+    for (int i = 0; i < n; i++) {
+      int v = array.get(i);
+      if (i > 0 && v == array.get(i - 1)) continue; // Duplicata
+      int k = key(v);
+      char hi = high(k);
+      int last = bitmap.size - 1;
+      if (last >= 0 && bitmap.keys[last] == hi) {
+        Container c = bitmap.containers[last];
+        bitmap.containers[last] =
+            c instanceof ArrayContainer ? ((ArrayContainer) c).append(low(k)) : c.add(low(k));
+      } else {
+        bitmap.insertChunk(last + 1, hi, new ArrayContainer().append(low(k)));
+      }
+    }
+    return bitmap;
+  }
+
+  // Copia os valores para um DynamicArray ordenado
+  public DynamicArray toDynamicArray() {
+    return new DynamicArray(toArray());
+  }
+
+  // Adiciona o valor, retorna false se já existia, O(log chunks + custo do container)
+  public boolean add(int x) {
+    int k = key(x);
+    char hi = high(k);
+    int i = find(hi);
+    if (i < 0) {
+      insertChunk(-i - 1, hi, new ArrayContainer().add(low(k)));
+      return true;
+    }
+    Container c = containers[i];
+    int before = c.cardinality();
+    containers[i] = c = c.add(low(k));
+    return c.cardinality() != before;
+  }
+
+  // Adiciona todos os valores em [first, last]; chunks inteiros viram RunContainers
+  public void addRange(int first, int last) {
+    if (first > last) throw new IllegalArgumentException("Illegal Range: " + first + " > " + last);
+    int kf = key(first), kl = key(last);
+    for (int hi = high(kf); hi <= high(kl); hi++) {
+      int lo = hi == high(kf) ? low(kf) : 0;
+      int up = hi == high(kl) ? low(kl) : 0xFFFF;
+      Container range = RunContainer.range(lo, up);
+      int i = find((char) hi);
+      if (i < 0) insertChunk(-i - 1, (char) hi, range);
+      else containers[i] = lo == 0 && up == 0xFFFF ? range : containers[i].ior(range);
+    }
+  }
+
+  // Remove o valor, retorna false se não existia
+  public boolean remove(int x) {
+    int k = key(x);
+    int i = find(high(k));
+    if (i < 0) return false;
+    Container c = containers[i];
+    int before = c.cardinality();
+    c = c.remove(low(k));
+    if (c.cardinality() == before) return false;
+    if (c.cardinality() == 0) removeChunk(i);
+    else containers[i] = c;
+    return true;
+  }
+
+  // Verifica se o valor está no conjunto, O(log chunks + custo do container)
+  public boolean contains(int x) {
+    int k = key(x);
+    int i = find(high(k));
+    return i >= 0 && containers[i].contains(low(k));
+  }
+
+  // Número de valores no conjunto, O(chunks)
+  public long cardinality() {
+    long card = 0;
+    for (int i = 0; i < size; i++) card += containers[i].cardinality();
+    return card;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  // Número de valores <= x
+  public long rank(int x) {
+    int k = key(x);
+    char hi = high(k);
+    long r = 0;
+    for (int i = 0; i < size && keys[i] <= hi; i++) {
+      r += keys[i] < hi ? containers[i].cardinality() : containers[i].rank(low(k));
+    }
+    return r;
+  }
+
+  // j-ésimo menor valor (a partir de 0)
+  public int select(long j) {
+    if (j < 0) throw new IndexOutOfBoundsException("Index out of range.");
+    for (int i = 0; i < size; i++) {
+      int card = containers[i].cardinality();
+      if (j < card) return (keys[i] << 16 | containers[i].select((int) j)) ^ Integer.MIN_VALUE;
+      j -= card;
+    }
+    throw new IndexOutOfBoundsException("Index out of range.");
+  }
+
+  // Interseção in-place: mantém só os valores também presentes em `other`
+  public void and(RoaringBitmap other) {
+    if (other == null) throw new IllegalArgumentException("Bitmap cannot be null");
+    int w = 0, i = 0, j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        Container c = containers[i].iand(other.containers[j]);
+        if (c.cardinality() > 0) {
+          keys[w] = keys[i];
+          containers[w++] = c;
+        }
+        i++;
+        j++;
+      }
+    }
+    Arrays.fill(containers, w, size, null);
+    size = w;
+  }
+
+  // União in-place
+  public void or(RoaringBitmap other) {
+    if (other == null) throw new IllegalArgumentException("Bitmap cannot be null");
+    merge(other, false);
+  }
+
+  // Diferença simétrica in-place
+  public void xor(RoaringBitmap other) {
+    if (other == null) throw new IllegalArgumentException("Bitmap cannot be null");
+    merge(other, true);
+  }
+
+  // Diferença in-place: remove os valores presentes em `other`
+  public void andNot(RoaringBitmap other) {
+    if (other == null) throw new IllegalArgumentException("Bitmap cannot be null");
+    int w = 0, j = 0;
+    for (int i = 0; i < size; i++) {
+      while (j < other.size && other.keys[j] < keys[i]) j++;
+      Container c = containers[i];
+      if (j < other.size && other.keys[j] == keys[i]) c = c.iandNot(other.containers[j]);
+      if (c.cardinality() > 0) {
+        keys[w] = keys[i];
+        containers[w++] = c;
+      }
+    }
+    Arrays.fill(containers, w, size, null);
+    size = w;
+  }
+
+  // Intercala os chunks de other em this para or (xor = false) e xor
+  // Os arrays de chaves e containers só crescem quando other traz chaves novas, uma vez;
+  // a intercalação vai de trás para frente, então nenhum chunk de this é sobrescrito antes de lido
+  private void merge(RoaringBitmap other, boolean xor) {
+    int added = 0;
+    for (int i = 0, j = 0; j < other.size; ) {
+      if (i == size || keys[i] > other.keys[j]) {
+        added++;
+        j++;
+      } else if (keys[i] < other.keys[j]) {
+        i++;
+      } else {
+        i++;
+        j++;
+      }
+    }
+    int n = size + added;
+    if (n > keys.length) {
+      keys = Arrays.copyOf(keys, Math.max(n, size * 2));
+      containers = Arrays.copyOf(containers, keys.length);
+    }
+    boolean emptied = false;
+    int i = size - 1, j = other.size - 1, w = n - 1;
+    while (j >= 0) { // Quando other acaba, os chunks restantes de this já estão no lugar
+      if (i >= 0 && keys[i] > other.keys[j]) {
+        keys[w] = keys[i];
+        containers[w--] = containers[i--];
+      } else if (i < 0 || keys[i] < other.keys[j]) {
+        keys[w] = other.keys[j];
+        containers[w--] = other.containers[j--].copy();
+      } else {
+        Container b = other.containers[j--];
+        Container c = xor ? containers[i].ixor(b) : containers[i].ior(b);
+        emptied |= c.cardinality() == 0;
+        keys[w] = keys[i--];
+        containers[w--] = c;
+      }
+    }
+    size = n;
+    if (emptied) removeEmptyChunks();
+  }
+
+  // Remove os chunks que ficaram vazios após um xor
+  private void removeEmptyChunks() {
+    int w = 0;
+    for (int i = 0; i < size; i++) {
+      if (containers[i].cardinality() > 0) {
+        keys[w] = keys[i];
+        containers[w++] = containers[i];
+      }
+    }
+    Arrays.fill(containers, w, size, null);
+    size = w;
+  }
+
+  // Converte containers para runs onde isso reduz a memória, retorna true se algum mudou
+  public boolean runOptimize() {
+    boolean changed = false;
+    for (int i = 0; i < size; i++) {
+      Container c = containers[i].runOptimize();
+      if (c != containers[i]) {
+        containers[i] = c;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  // Memória aproximada dos dados (chaves + conteúdo dos containers), em bytes
+  public long sizeInBytes() {
+    long bytes = 2L * size;
+    for (int i = 0; i < size; i++) bytes += containers[i].sizeInBytes();
+    return bytes;
+  }
+
+  // Executa a ação para cada valor em ordem crescente
+  public void forEach(IntConsumer action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    for (int i = 0; i < size; i++) {
+      int base = keys[i] << 16;
+      containers[i].forEach(base, x -> action.accept(x ^ Integer.MIN_VALUE));
+    }
+  }
+
+  // Copia os valores em ordem crescente para um novo array
+  public int[] toArray() {
+    long card = cardinality();
+    if (card > Integer.MAX_VALUE - 8) throw new IllegalStateException("Bitmap too large for an array");
+    int[] out = new int[(int) card];
+    int[] n = {0};
+    forEach(v -> out[n[0]++] = v);
+    return out;
+  }
+
+  // Cópia independente
+  public RoaringBitmap copy() {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    bitmap.keys = Arrays.copyOf(keys, Math.max(4, size));
+    bitmap.containers = new Container[bitmap.keys.length];
+    for (int i = 0; i < size; i++) bitmap.containers[i] = containers[i].copy();
+    bitmap.size = size;
+    return bitmap;
+  }
+
+  // Escreve os valores em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, Integer.MAX_VALUE);
+  }
+
+  // Escreve no máximo `maxElements` valores, o restante é resumido como "... (k more)"
+  // Percorre os containers com forEach em vez de select(j) por valor; só o último
+  // container visitado é percorrido além do limite, O(maxElements + 65536)
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    long card = cardinality();
+    long shown = Math.min(card, maxElements);
+    long[] written = {0};
+    out.append("[ ");
+    try {
+      for (int i = 0; i < size && written[0] < shown; i++) {
+        containers[i].forEach(keys[i] << 16, x -> {
+          if (written[0] == shown) return;
+          try {
+            if (written[0]++ > 0) out.append(", ");
+            Appendables.appendLong(out, x ^ Integer.MIN_VALUE, scratch);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    if (shown < card) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, card - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(" ]");
+    return out;
+  }
+
+  // Escreve os valores em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` valores, útil para logs de bitmaps grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    int shown = (int) Math.min(cardinality(), maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(shown));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toString(Integer.MAX_VALUE);
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    RoaringBitmap ids = new RoaringBitmap();
+    ids.addRange(1_000_000, 1_999_999); // Faixa densa: runs
+    ids.add(-5);
+    ids.add(42);
+
+    RoaringBitmap other = RoaringBitmap.of(42, 1_500_000, 7);
+    other.and(ids);
+
+    System.out.println(other); // [ 42, 1500000 ]
+    System.out.println(ids.cardinality()); // 1000002
+    System.out.println(ids.rank(42)); // 2
+    System.out.println(ids.select(2)); // 1000000
+    System.out.println(ids.sizeInBytes() + " bytes"); // ~1000000 valores em poucos bytes
+  }
+}
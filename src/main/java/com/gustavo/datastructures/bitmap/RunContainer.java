@@ -0,0 +1,197 @@
+package com.gustavo.datastructures.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Container de intervalos: pares (início, comprimento - 1) ordenados em um char[],
+// 4 bytes por run independente da cardinalidade. Ideal para faixas densas de IDs.
+final class RunContainer extends Container {
+
+  private char[] runs; // runs[2i] = início, runs[2i + 1] = comprimento - 1
+  private int nRuns;
+  private int card;
+
+  private RunContainer(int capacity) {
+    runs = new char[2 * Math.max(1, capacity)];
+  }
+
+  static int sizeInBytes(int runs) {
+    return 4 * runs;
+  }
+
+  // Container com todos os valores em [lo, hi]
+  static RunContainer range(int lo, int hi) {
+    RunContainer c = new RunContainer(1);
+    c.runs[0] = (char) lo;
+    c.runs[1] = (char) (hi - lo);
+    c.nRuns = 1;
+    c.card = hi - lo + 1;
+    return c;
+  }
+
+  // Converte outro container com `runs` intervalos
+  static RunContainer from(Container other, int runs) {
+    RunContainer c = new RunContainer(runs);
+    int[] prev = {-2};
+    other.forEach(0, x -> {
+      if (x == prev[0] + 1) {
+        c.runs[2 * c.nRuns - 1]++;
+      } else {
+        c.runs[2 * c.nRuns] = (char) x;
+        c.runs[2 * c.nRuns + 1] = 0;
+        c.nRuns++;
+      }
+      prev[0] = x;
+    });
+    c.card = other.cardinality();
+    return c;
+  }
+
+  int start(int i) {
+    return runs[2 * i];
+  }
+
+  int end(int i) {
+    return runs[2 * i] + runs[2 * i + 1];
+  }
+
+  // Índice do último run com início <= x, ou -1
+  private int floor(int x) {
+    int lo = 0, hi = nRuns - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      if (start(mid) <= x) lo = mid + 1;
+      else hi = mid - 1;
+    }
+    return hi;
+  }
+
+  @Override
+  int cardinality() {
+    return card;
+  }
+
+  @Override
+  boolean contains(int x) {
+    int i = floor(x);
+    return i >= 0 && x <= end(i);
+  }
+
+  @Override
+  Container add(int x) {
+    int i = floor(x);
+    if (i >= 0 && x <= end(i)) return this;
+    boolean joinsPrev = i >= 0 && end(i) + 1 == x;
+    boolean joinsNext = i + 1 < nRuns && start(i + 1) == x + 1;
+    if (joinsPrev && joinsNext) {
+      // Funde os dois runs
+      runs[2 * i + 1] = (char) (end(i + 1) - start(i));
+      deleteRun(i + 1);
+    } else if (joinsPrev) {
+      runs[2 * i + 1]++;
+    } else if (joinsNext) {
+      runs[2 * (i + 1)]--;
+      runs[2 * (i + 1) + 1]++;
+    } else {
+      insertRun(i + 1, x, x);
+    }
+    card++;
+    return compact();
+  }
+
+  @Override
+  Container remove(int x) {
+    int i = floor(x);
+    if (i < 0 || x > end(i)) return this;
+    int s = start(i), e = end(i);
+    if (s == e) {
+      deleteRun(i);
+    } else if (x == s) {
+      runs[2 * i]++;
+      runs[2 * i + 1]--;
+    } else if (x == e) {
+      runs[2 * i + 1]--;
+    } else {
+      // Divide o run em [s, x - 1] e [x + 1, e]
+      runs[2 * i + 1] = (char) (x - 1 - s);
+      insertRun(i + 1, x + 1, e);
+    }
+    card--;
+    return compact();
+  }
+
+  private void insertRun(int i, int s, int e) {
+    if (2 * nRuns == runs.length) runs = Arrays.copyOf(runs, runs.length * 2);
+    System.arraycopy(runs, 2 * i, runs, 2 * i + 2, 2 * (nRuns - i));
+    runs[2 * i] = (char) s;
+    runs[2 * i + 1] = (char) (e - s);
+    nRuns++;
+  }
+
+  private void deleteRun(int i) {
+    System.arraycopy(runs, 2 * i + 2, runs, 2 * i, 2 * (nRuns - i - 1));
+    nRuns--;
+  }
+
+  // Troca de representação quando os runs fragmentados ocupam mais que a alternativa
+  private Container compact() {
+    int alternative = card <= MAX_ARRAY_SIZE ? 2 * card : 8192;
+    if (sizeInBytes() <= alternative) return this;
+    return toBitmap().repair();
+  }
+
+  @Override
+  int rank(int x) {
+    int r = 0;
+    for (int i = 0; i < nRuns && start(i) <= x; i++) r += Math.min(x, end(i)) - start(i) + 1;
+    return r;
+  }
+
+  @Override
+  int select(int j) {
+    for (int i = 0; i < nRuns; i++) {
+      int len = runs[2 * i + 1] + 1;
+      if (j < len) return start(i) + j;
+      j -= len;
+    }
+    throw new IndexOutOfBoundsException("Index out of range.");
+  }
+
+  @Override
+  void forEach(int base, IntConsumer action) {
+    for (int i = 0; i < nRuns; i++) {
+      for (int x = start(i), e = end(i); x <= e; x++) action.accept(base | x);
+    }
+  }
+
+  @Override
+  BitmapContainer toBitmap() {
+    BitmapContainer bitmap = new BitmapContainer();
+    for (int i = 0; i < nRuns; i++) bitmap.setRange(start(i), end(i));
+    return bitmap.recount();
+  }
+
+  @Override
+  int sizeInBytes() {
+    return sizeInBytes(nRuns);
+  }
+
+  @Override
+  int numberOfRuns() {
+    return nRuns;
+  }
+
+  @Override
+  Container copy() {
+    RunContainer c = new RunContainer(nRuns);
+    System.arraycopy(runs, 0, c.runs, 0, 2 * nRuns);
+    c.nRuns = nRuns;
+    c.card = card;
+    return c;
+  }
+
+  @Override
+  Container runOptimize() {
+    return this;
+  }
+}
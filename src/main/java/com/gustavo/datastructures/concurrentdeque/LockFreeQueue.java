@@ -0,0 +1,187 @@
+package com.gustavo.datastructures.concurrentdeque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fila FIFO lock-free (Michael-Scott) com a API de fila da DoublyLinkedList:
+// add/addLast no tail, removeFirst/peekFirst no head.
+//
+// head aponta sempre para um node sentinela; o primeiro elemento é head.next.
+// O tamanho usa um LongAdder (contadores em faixas) para não serializar os
+// produtores em um único campo. Elementos null não são permitidos.
+public class LockFreeQueue<T> implements Iterable<T> {
+
+  private static final class Node<T> {
+    volatile T data;
+    volatile Node<T> next;
+
+    Node(T data) {
+      this.data = data;
+    }
+  }
+
+  private static final VarHandle HEAD, TAIL, NEXT;
+
+  static {
+    try {
+      MethodHandles.Lookup l = MethodHandles.lookup();
+      HEAD = l.findVarHandle(LockFreeQueue.class, "head", Node.class);
+      TAIL = l.findVarHandle(LockFreeQueue.class, "tail", Node.class);
+      NEXT = l.findVarHandle(Node.class, "next", Node.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private volatile Node<T> head;
+  private volatile Node<T> tail;
+  private final LongAdder size = new LongAdder();
+
+  public LockFreeQueue() {
+    head = tail = new Node<T>(null);
+  }
+
+  // Retorna o tamanho aproximado (exato se não houver operações concorrentes)
+  public int size() {
+    long s = size.sum();
+    return s < 0 ? 0 : (int) Math.min(s, Integer.MAX_VALUE);
+  }
+
+  // Retorna se a fila está vazia
+  public boolean isEmpty() {
+    return head.next == null;
+  }
+
+  // Adiciona um elemento ao tail da fila, O(1)
+  public void add(T elem) {
+    addLast(elem);
+  }
+
+  // Adiciona um node ao tail da fila, lock-free
+  public void addLast(T elem) {
+    if (elem == null) throw new IllegalArgumentException("Null elements are not supported");
+    Node<T> node = new Node<T>(elem);
+    while (true) {
+      Node<T> t = tail;
+      Node<T> next = t.next;
+      if (t != tail) continue;
+      if (next != null) {
+        TAIL.compareAndSet(this, t, next); // Ajuda um add atrasado a avançar o tail
+      } else if (NEXT.compareAndSet(t, null, node)) {
+        TAIL.compareAndSet(this, t, node);
+        size.increment();
+        return;
+      }
+    }
+  }
+
+  // Remove o primeiro valor da fila ou retorna null se vazia, lock-free
+  public T pollFirst() {
+    while (true) {
+      Node<T> h = head;
+      Node<T> t = tail;
+      Node<T> next = h.next;
+      if (h != head) continue;
+      if (next == null) return null;
+      if (h == t) {
+        TAIL.compareAndSet(this, t, next);
+      } else if (HEAD.compareAndSet(this, h, next)) {
+        T data = next.data;
+        next.data = null; // next passa a ser o sentinela
+        size.decrement();
+        return data;
+      }
+    }
+  }
+
+  // Remove o primeiro valor da fila, lança exceção se vazia
+  public T removeFirst() {
+    T data = pollFirst();
+    if (data == null) throw new RuntimeException("Empty list");
+    return data;
+  }
+
+  // Verifica o valor do primeiro node ou retorna null se vazia
+  public T peekFirst() {
+    while (true) {
+      Node<T> first = head.next;
+      if (first == null) return null;
+      T data = first.data;
+      if (data != null) return data;
+      // O node virou sentinela entre as leituras; tenta novamente
+    }
+  }
+
+  // Iterador fracamente consistente: não lança exceção com modificações concorrentes
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private Node<T> trav = head;
+      private T nextData = advance();
+
+      // Avança até o próximo node que ainda tem valor, guardando o valor lido
+      private T advance() {
+        for (trav = trav.next; trav != null; trav = trav.next) {
+          T data = trav.data;
+          if (data != null) return data;
+        }
+        return null;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return nextData != null;
+      }
+
+      @Override
+      public T next() {
+        if (nextData == null) throw new NoSuchElementException();
+        T data = nextData;
+        nextData = advance();
+        return data;
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[ ");
+    boolean first = true;
+    for (T data : this) {
+      if (!first) sb.append(", ");
+      sb.append(data);
+      first = false;
+    }
+    return sb.append(" ]").toString();
+  }
+
+  // Exemplo de uso: 4 produtores e 4 consumidores
+  public static void main(String[] args) throws InterruptedException {
+    LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+    java.util.concurrent.atomic.AtomicLong consumed = new java.util.concurrent.atomic.AtomicLong();
+    int perThread = 100_000;
+    Thread[] threads = new Thread[8];
+    for (int t = 0; t < 4; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 1; i <= perThread; i++) queue.add(i);
+      });
+      threads[t + 4] = new Thread(() -> {
+        for (int n = 0; n < perThread; ) {
+          Integer v = queue.pollFirst();
+          if (v != null) {
+            consumed.addAndGet(v);
+            n++;
+          }
+        }
+      });
+    }
+    for (Thread t : threads) t.start();
+    for (Thread t : threads) t.join();
+
+    long expected = 4L * perThread * (perThread + 1) / 2;
+    System.out.println("sum=" + consumed.get() + " expected=" + expected + " size=" + queue.size());
+  }
+}
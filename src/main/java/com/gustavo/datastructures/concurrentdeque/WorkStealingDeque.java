@@ -0,0 +1,190 @@
+package com.gustavo.datastructures.concurrentdeque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Deque de work-stealing (Chase-Lev) com a API de deque da DoublyLinkedList
+//
+// Apenas a thread dona chama addLast/removeLast/pollLast/peekLast (pilha LIFO no tail);
+// qualquer outra thread rouba do head com pollFirst/removeFirst. O dono só disputa
+// com ladrões quando resta um único elemento. Os elementos ficam em um array circular
+// que o dono dobra quando enche. Elementos null não são permitidos.
+//
+// Um roubo é decidido apenas pelo CAS em top, um contador que só cresce e por isso não
+// sofre ABA: o valor lido do slot antes do CAS é válido se o CAS vencer, já que o dono
+// não reescreve o slot de índice t enquanto top == t. Os ladrões nunca escrevem no
+// array; só o dono limpa os slots que desempilha, então um elemento roubado continua
+// referenciado pelo array até o slot ser reutilizado ou o array crescer.
+public class WorkStealingDeque<T> {
+
+  private static final int DEFAULT_CAP = 1 << 5;
+
+  private static final VarHandle TOP, SLOT;
+
+  static {
+    try {
+      TOP = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "top", long.class);
+      SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private volatile long top = 0; // Próximo índice a ser roubado
+  private volatile long bottom = 0; // Próximo índice livre do dono
+  private volatile Object[] array; // Tamanho sempre potência de 2
+
+  public WorkStealingDeque() {
+    this(DEFAULT_CAP);
+  }
+
+  // Iniciar com capacidade (arredondada para potência de 2)
+  public WorkStealingDeque(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    int cap = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    array = new Object[cap];
+  }
+
+  // Retorna o tamanho no momento da leitura; não precisa de contador compartilhado
+  public int size() {
+    long s = bottom - top;
+    return s < 0 ? 0 : (int) s;
+  }
+
+  // Retorna se o deque está vazio
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Apenas o dono: empilha no tail, O(1) amortizado
+  public void addLast(T elem) {
+    if (elem == null) throw new IllegalArgumentException("Null elements are not supported");
+    long b = bottom;
+    long t = top;
+    Object[] a = array;
+    if (b - t >= a.length - 1) a = grow(a, t, b);
+    SLOT.setRelease(a, (int) b & (a.length - 1), elem);
+    bottom = b + 1;
+  }
+
+  // Apenas o dono: igual a addLast
+  public void add(T elem) {
+    addLast(elem);
+  }
+
+  // Copia os elementos vivos para um array com o dobro do tamanho
+  private Object[] grow(Object[] old, long t, long b) {
+    Object[] a = new Object[old.length << 1];
+    for (long i = t; i < b; i++) a[(int) i & (a.length - 1)] = old[(int) i & (old.length - 1)];
+    array = a;
+    return a;
+  }
+
+  // Apenas o dono: desempilha do tail ou retorna null se vazio
+  @SuppressWarnings("unchecked")
+  public T pollLast() {
+    long b = bottom - 1;
+    Object[] a = array;
+    bottom = b; // Escrita volatile antes de ler top: ladrões passam a ver o slot reservado
+    long t = top;
+    if (t > b) {
+      bottom = b + 1; // Vazio
+      return null;
+    }
+    int slot = (int) b & (a.length - 1);
+    T data = (T) a[slot];
+    if (t == b) {
+      // Último elemento: disputa com os ladrões pelo mesmo índice
+      boolean won = TOP.compareAndSet(this, t, t + 1);
+      bottom = b + 1;
+      if (!won) return null;
+    }
+    // Nenhum ladrão pode mais obter o índice b: t < b, ou o dono venceu o CAS em top
+    SLOT.setRelease(a, slot, null);
+    return data;
+  }
+
+  // Apenas o dono: desempilha do tail, lança exceção se vazio
+  public T removeLast() {
+    T data = pollLast();
+    if (data == null) throw new RuntimeException("Empty list");
+    return data;
+  }
+
+  // Apenas o dono: verifica o valor do tail ou retorna null se vazio
+  @SuppressWarnings("unchecked")
+  public T peekLast() {
+    long b = bottom - 1;
+    if (b < top) return null;
+    Object[] a = array;
+    return (T) a[(int) b & (a.length - 1)];
+  }
+
+  // Qualquer thread: rouba do head ou retorna null se vazio
+  // Pode retornar null sem o deque estar vazio quando perde a disputa pelo último
+  // elemento para o dono, como pollLast
+  @SuppressWarnings("unchecked")
+  public T pollFirst() {
+    while (true) {
+      long t = top;
+      long b = bottom;
+      if (t >= b) return null;
+      Object[] a = array;
+      T data = (T) SLOT.getAcquire(a, (int) t & (a.length - 1));
+      if (data == null) {
+        // O dono desempilhou o índice t (só acontece após top avançar): disputa perdida
+        if (top == t) return null;
+        continue;
+      }
+      if (TOP.compareAndSet(this, t, t + 1)) return data;
+      // Outro ladrão ou o dono avançou top; tenta o próximo índice
+    }
+  }
+
+  // Qualquer thread: rouba do head, lança exceção se vazio
+  public T removeFirst() {
+    T data = pollFirst();
+    if (data == null) throw new RuntimeException("Empty list");
+    return data;
+  }
+
+  // Qualquer thread: verifica o valor do head ou retorna null se vazio
+  @SuppressWarnings("unchecked")
+  public T peekFirst() {
+    long t = top;
+    if (t >= bottom) return null;
+    Object[] a = array;
+    return (T) SLOT.getAcquire(a, (int) t & (a.length - 1));
+  }
+
+  // Exemplo de uso: o dono empilha e desempilha enquanto 3 ladrões roubam
+  public static void main(String[] args) throws InterruptedException {
+    WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+    java.util.concurrent.atomic.AtomicLong sum = new java.util.concurrent.atomic.AtomicLong();
+    java.util.concurrent.atomic.AtomicBoolean done = new java.util.concurrent.atomic.AtomicBoolean();
+    int n = 1_000_000;
+
+    Thread[] thieves = new Thread[3];
+    for (int i = 0; i < thieves.length; i++) {
+      thieves[i] = new Thread(() -> {
+        while (!done.get() || !deque.isEmpty()) {
+          Integer v = deque.pollFirst();
+          if (v != null) sum.addAndGet(v);
+        }
+      });
+      thieves[i].start();
+    }
+
+    for (int i = 1; i <= n; i++) {
+      deque.addLast(i);
+      if ((i & 3) == 0) {
+        Integer v = deque.pollLast();
+        if (v != null) sum.addAndGet(v);
+      }
+    }
+    done.set(true);
+    for (Thread t : thieves) t.join();
+
+    System.out.println("sum=" + sum.get() + " expected=" + ((long) n * (n + 1) / 2));
+  }
+}
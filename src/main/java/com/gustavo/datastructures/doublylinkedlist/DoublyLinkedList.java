@@ -1,10 +1,32 @@
 package com.gustavo.datastructures.doublylinkedlist;
 
+import com.gustavo.datastructures.metrics.Metrics;
+import com.gustavo.datastructures.util.Appendables;
+import com.gustavo.datastructures.util.LinkedSpliterator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public class DoublyLinkedList<T> implements Iterable<T> {
 
   private int size = 0;
+  private int modCount = 0; // Modificações estruturais, para os iterators fail-fast
   private Node<T> head = null;
   private Node<T> tail = null;
+  private PositionIndex positionIndex = null; // Opcional, ver enablePositionIndex()
+  private HashIndex hashIndex = null; // Opcional, ver enableHashIndex()
+
+  // Nodes removidos guardados para reuso, ligados por `next` (ver setNodePoolCapacity)
+  private Node<T> pool = null;
+  private int pooled = 0;
+  private int maxPooled = 0;
 
   // Classe interna Node para representação dos dados
   private static class Node<T> {
@@ -28,12 +50,14 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     Node<T> trav = head;
     while (trav != null) {
       Node<T> next = trav.next;
-      trav.prev = trav.next = null;
-      trav.data = null;
+      recycle(trav);
       trav = next;
     }
     head = tail = trav = null;
     size = 0;
+    modCount++;
+    if (positionIndex != null) positionIndex.reset();
+    if (hashIndex != null) hashIndex.reset();
   }
 
   // Retorna o tamanho da Linked List
@@ -54,23 +78,29 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   // Adiciona um node ao tail da lista, O(1)
   public void addLast(T elem) {
     if (isEmpty()) {
-      head = tail = new Node<T>(elem, null, null);
+      head = tail = newNode(elem, null, null);
     } else {
-      tail.next = new Node<T>(elem, tail, null);
+      tail.next = newNode(elem, tail, null);
       tail = tail.next;
     }
     size++;
+    modCount++;
+    if (positionIndex != null) positionIndex.onInsert(size - 1, tail);
+    if (hashIndex != null) hashIndex.onInsert(tail);
   }
 
   // Adiciona node ao head ta lista, O(1)
   public void addFirst(T elem) {
     if (isEmpty()) {
-      head = tail = new Node<T>(elem, null, null);
+      head = tail = newNode(elem, null, null);
     } else {
-      head.prev = new Node<T>(elem, null, head);
+      head.prev = newNode(elem, null, head);
       head = head.prev;
     }
     size++;
+    modCount++;
+    if (positionIndex != null) positionIndex.onInsert(0, head);
+    if (hashIndex != null) hashIndex.onInsert(head);
   }
 
   // Adiciona um elemento em um índice específico
@@ -87,15 +117,103 @@ public class DoublyLinkedList<T> implements Iterable<T> {
       return;
     }
 
-    Node<T> temp = head;
-    for (int i = 0; i < index - 1; i++) {
-      temp = temp.next;
-    }
-    Node<T> newNode = new Node<T>(data, temp, temp.next);
+    Node<T> temp = nodeAt(index - 1);
+    Node<T> newNode = newNode(data, temp, temp.next);
     temp.next.prev = newNode;
     temp.next = newNode;
 
     size++;
+    modCount++;
+    if (positionIndex != null) positionIndex.onInsert(index, newNode);
+    if (hashIndex != null) hashIndex.onInsert(newNode);
+  }
+
+  // Retorna o valor em um índice particular
+  // O(n), ou O(sqrt(n)) com o índice posicional habilitado
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    return nodeAt(index).data;
+  }
+
+  // Localiza o node de um índice válido, percorrendo a partir do extremo mais próximo
+  private Node<T> nodeAt(int index) {
+    if (positionIndex != null) return positionIndex.nodeAt(index);
+    Node<T> trav;
+    if (index < size / 2) {
+      trav = head;
+      for (int i = 0; i != index; i++) trav = trav.next;
+      if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", index);
+    } else {
+      trav = tail;
+      for (int i = size - 1; i != index; i--) trav = trav.prev;
+      if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", size - 1 - index);
+    }
+    return trav;
+  }
+
+  // Habilita o índice posicional: uma tabela de nodes amostrados a cada ~sqrt(n)
+  // posições, que torna get/addAt/removeAt O(sqrt(n)) mantendo addFirst/addLast O(1)
+  public void enablePositionIndex() {
+    if (positionIndex == null) {
+      positionIndex = new PositionIndex();
+      positionIndex.rebuild();
+    }
+  }
+
+  // Desabilita o índice posicional, liberando a tabela
+  public void disablePositionIndex() {
+    positionIndex = null;
+  }
+
+  // Retorna se o índice posicional está habilitado
+  public boolean isPositionIndexEnabled() {
+    return positionIndex != null;
+  }
+
+  // Define quantos nodes removidos a lista guarda para reusar em inserções futuras,
+  // evitando alocar um Node por inserção em cargas com muitas inserções e remoções.
+  // 0 (padrão) desabilita o reuso; reduzir a capacidade descarta o excedente
+  public void setNodePoolCapacity(int maxPooled) {
+    if (maxPooled < 0) throw new IllegalArgumentException("Illegal Capacity: " + maxPooled);
+    this.maxPooled = maxPooled;
+    while (pooled > maxPooled) {
+      Node<T> node = pool;
+      pool = node.next;
+      node.next = null;
+      pooled--;
+    }
+  }
+
+  // Retorna quantos nodes estão guardados para reuso
+  public int pooledNodes() {
+    return pooled;
+  }
+
+  // Cria um node, reaproveitando um do pool quando houver
+  private Node<T> newNode(T data, Node<T> prev, Node<T> next) {
+    Node<T> node = pool;
+    if (node == null) return new Node<T>(data, prev, next);
+    pool = node.next;
+    pooled--;
+    node.data = data;
+    node.prev = prev;
+    node.next = next;
+    return node;
+  }
+
+  // Limpa um node removido e o devolve ao pool se houver espaço
+  private void recycle(Node<T> node) {
+    node.data = null;
+    node.prev = null;
+    if (pooled < maxPooled) {
+      node.next = pool;
+      pool = node;
+      pooled++;
+    } else {
+      node.next = null;
+    }
   }
 
   // Verifica o valor do primeiro node se existir, O(1)
@@ -114,13 +232,19 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   public T removeFirst() {
     if (isEmpty()) throw new RuntimeException("Empty list");
 
-    T data = head.data;
+    if (positionIndex != null) positionIndex.onRemove(0, head);
+    if (hashIndex != null) hashIndex.onRemove(head);
+
+    Node<T> node = head;
+    T data = node.data;
     head = head.next;
     --size;
+    modCount++;
 
     if (isEmpty()) tail = null;
     else head.prev = null;
 
+    recycle(node);
     return data;
   }
 
@@ -128,30 +252,38 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   public T removeLast() {
     if (isEmpty()) throw new RuntimeException("Empty list");
 
-    T data = tail.data;
+    if (positionIndex != null) positionIndex.onRemove(size - 1, tail);
+    if (hashIndex != null) hashIndex.onRemove(tail);
+
+    Node<T> node = tail;
+    T data = node.data;
     tail = tail.prev;
     --size;
+    modCount++;
 
     if (isEmpty()) head = null;
     else tail.next = null;
 
+    recycle(node);
     return data;
   }
 
-  // Remove um node arbitrário da lista, O(1)
-  private T remove(Node<T> node) {
+  // Remove um node arbitrário da lista dado o seu índice, O(1)
+  // (O(sqrt(n)) com o índice posicional habilitado)
+  private T remove(Node<T> node, int index) {
     if (node.prev == null) return removeFirst();
     if (node.next == null) return removeLast();
+    if (positionIndex != null) positionIndex.onRemove(index, node);
+    if (hashIndex != null) hashIndex.onRemove(node);
 
     node.next.prev = node.prev;
     node.prev.next = node.next;
 
     T data = node.data;
-
-    node.data = null;
-    node = node.prev = node.next = null;
+    recycle(node);
 
     --size;
+    modCount++;
 
     return data;
   }
@@ -162,73 +294,170 @@ public class DoublyLinkedList<T> implements Iterable<T> {
       throw new IllegalArgumentException();
     }
 
-    int i;
-    Node<T> trav;
-
-    if (index < size / 2) {
-      for (i = 0, trav = head; i != index; i++) {
-        trav = trav.next;
-      }
-    } else {
-      for (i = size - 1, trav = tail; i != index; i--) {
-        trav = trav.prev;
-      }
-    }
-    return remove(trav);
+    return remove(nodeAt(index), index);
   }
 
   // Remove um valor particular na lista, O(n)
+  // (O(1) com o índice hash habilitado e sem o índice posicional)
   public boolean remove(Object obj) {
+    if (hashIndex != null) {
+      Slot<T> slot = hashIndex.slot(obj);
+      if (slot == null) return false;
+      if (positionIndex == null && slot.count == 1) {
+        remove(hashIndex.node(slot, obj), -1);
+        return true;
+      }
+    }
+
     Node<T> trav = head;
+    int index = 0;
 
     if (obj == null) {
-      for(trav = head; trav != null; trav = trav.next) {
+      for (trav = head; trav != null; trav = trav.next, index++) {
         if (trav.data == null) {
-          remove(trav);
+          if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", index);
+          remove(trav, index);
           return true;
         }
       }
     } else {
-      for (trav = head; trav != null; trav = trav.next) {
+      for (trav = head; trav != null; trav = trav.next, index++) {
         if (obj.equals(trav.data)) {
-          remove(trav);
+          if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", index);
+          remove(trav, index);
           return true;
         }
       }
     }
+    if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", size);
     return false;
   }
 
   // Encontra o índice de um valor particular na lista, O(n)
   public int indexOf(Object obj) {
+    if (hashIndex != null && !hashIndex.contains(obj)) return -1;
     int index = 0;
     Node<T> trav = head;
 
     if (obj == null) {
       for (; trav != null; trav = trav.next, index++) {
         if (trav.data == null) {
+          if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", index);
           return index;
         }
       }
     } else {
       for (; trav != null; trav = trav.next, index++) {
         if (obj.equals(trav.data)) {
+          if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", index);
           return index;
         }
       }
     }
+    if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", size);
     return -1;
   }
 
-  // Verifica se um valor está contido na lista
+  // Verifica se um valor está contido na lista, O(n) (O(1) com o índice hash habilitado)
   public boolean contains(Object obj) {
+    if (hashIndex != null) return hashIndex.contains(obj);
     return indexOf(obj) != -1;
   }
 
+  // Move a primeira ocorrência de um valor para o head da lista, retorna false se não existir
+  // O(n), O(1) com o índice hash habilitado e sem o índice posicional
+  public boolean moveToFront(Object obj) {
+    Node<T> node = find(obj);
+    if (node == null) return false;
+    if (node != head) {
+      int index = positionIndex != null ? indexOf(obj) : -1;
+      unlink(node, index);
+      node.next = head;
+      head.prev = node;
+      head = node;
+      size++;
+      modCount++;
+      if (positionIndex != null) positionIndex.onInsert(0, node);
+    }
+    return true;
+  }
+
+  // Move a primeira ocorrência de um valor para o tail da lista, retorna false se não existir
+  // O(n), O(1) com o índice hash habilitado e sem o índice posicional
+  public boolean moveToBack(Object obj) {
+    Node<T> node = find(obj);
+    if (node == null) return false;
+    if (node != tail) {
+      int index = positionIndex != null ? indexOf(obj) : -1;
+      unlink(node, index);
+      node.prev = tail;
+      tail.next = node;
+      tail = node;
+      size++;
+      modCount++;
+      if (positionIndex != null) positionIndex.onInsert(size - 1, node);
+    }
+    return true;
+  }
+
+  // Localiza o node da primeira ocorrência de um valor, ou null
+  private Node<T> find(Object obj) {
+    if (hashIndex != null) {
+      Slot<T> slot = hashIndex.slot(obj);
+      if (slot == null) return null;
+      if (slot.count == 1) return hashIndex.node(slot, obj);
+    }
+    for (Node<T> trav = head; trav != null; trav = trav.next) {
+      if (obj == null ? trav.data == null : obj.equals(trav.data)) return trav;
+    }
+    return null;
+  }
+
+  // Desliga um node (que não é o tail) da lista mantendo-o no índice hash,
+  // usado para reposicioná-lo sem alocar um novo node
+  private void unlink(Node<T> node, int index) {
+    if (positionIndex != null) positionIndex.onRemove(index, node);
+    if (node == head) {
+      head = node.next;
+      head.prev = null;
+    } else if (node == tail) {
+      tail = node.prev;
+      tail.next = null;
+    } else {
+      node.prev.next = node.next;
+      node.next.prev = node.prev;
+    }
+    node.prev = node.next = null;
+    size--;
+    modCount++;
+  }
+
+  // Habilita o índice hash elemento -> node, que torna contains, remove(Object),
+  // moveToFront e moveToBack O(1). Usa equals/hashCode dos elementos e O(n) de memória extra
+  public void enableHashIndex() {
+    if (hashIndex == null) {
+      hashIndex = new HashIndex();
+      for (Node<T> trav = head; trav != null; trav = trav.next) hashIndex.onInsert(trav);
+    }
+  }
+
+  // Desabilita o índice hash, liberando a tabela
+  public void disableHashIndex() {
+    hashIndex = null;
+  }
+
+  // Retorna se o índice hash está habilitado
+  public boolean isHashIndexEnabled() {
+    return hashIndex != null;
+  }
+
+  // Iterator fail-fast: lança ConcurrentModificationException se a lista for
+  // modificada estruturalmente durante a iteração
   @Override
   public java.util.Iterator<T> iterator() {
     return new java.util.Iterator<T>() {
       private Node<T> trav = head;
+      private final int expectedModCount = modCount;
 
       @Override
       public boolean hasNext() {
@@ -237,11 +466,21 @@ public class DoublyLinkedList<T> implements Iterable<T> {
 
       @Override
       public T next() {
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        if (trav == null) throw new NoSuchElementException();
         T data = trav.data;
         trav = trav.next;
         return data;
       }
 
+      @Override
+      public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) throw new IllegalArgumentException("Action cannot be null");
+        // Verifica a cada passo: uma ação que insere na lista não pode prolongar o laço
+        for (; trav != null && modCount == expectedModCount; trav = trav.next) action.accept(trav.data);
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+      }
+
       @Override
       public void remove() {
         throw new UnsupportedOperationException();
@@ -249,20 +488,291 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     };
   }
 
+  // Percorre a lista diretamente pelos nodes, sem criar um iterator, O(n)
+  @Override
+  public void forEach(Consumer<? super T> action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    int expectedModCount = modCount;
+    // Verifica a cada passo, como ArrayList.forEach: uma ação que insere na lista
+    // lança exceção em vez de percorrer os nodes novos indefinidamente
+    for (Node<T> trav = head; trav != null && modCount == expectedModCount; trav = trav.next) {
+      action.accept(trav.data);
+    }
+    if (modCount != expectedModCount) throw new ConcurrentModificationException();
+  }
+
+  // Spliterator que divide copiando lotes crescentes de elementos para arrays,
+  // permitindo que parallelStream distribua o trabalho entre threads
+  @Override
+  public Spliterator<T> spliterator() {
+    return new LinkedSpliterator<T, Node<T>>() {
+      @Override
+      protected Node<T> head() {
+        return head;
+      }
+
+      @Override
+      protected int size() {
+        return size;
+      }
+
+      @Override
+      protected int modCount() {
+        return modCount;
+      }
+
+      @Override
+      protected Node<T> next(Node<T> node) {
+        return node.next;
+      }
+
+      @Override
+      protected T data(Node<T> node) {
+        return node.data;
+      }
+    };
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, size);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append("[ ");
+    int shown = 0;
+    for (Node<T> trav = head; trav != null && shown < maxElements; trav = trav.next, shown++) {
+      if (shown > 0) out.append(", ");
+      Appendables.appendObject(out, trav.data, scratch);
+    }
+    if (shown < size) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, size - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(" ]");
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de listas grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(size, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
+    }
+  }
+
   @Override
   public String toString() {
-    StringBuilder sb = new StringBuilder();
-    sb.append("[ ");
-    Node<T> trav = head;
-    while (trav != null) {
-      sb.append(trav.data);
-      if (trav.next != null) {
-        sb.append(", ");
+    return toString(size);
+  }
+
+  // Índice hash elemento -> node
+  //
+  // Cada valor distinto guarda quantas vezes aparece na lista e, quando aparece uma
+  // única vez, o seu node. Com duplicatas a posição da primeira ocorrência depende da
+  // ordem da lista, então o chamador faz o percurso linear; contains continua O(1).
+  private final class HashIndex {
+    private final HashMap<Object, Slot<T>> slots = new HashMap<>();
+
+    void reset() {
+      slots.clear();
+    }
+
+    boolean contains(Object obj) {
+      return slots.containsKey(obj);
+    }
+
+    Slot<T> slot(Object obj) {
+      return slots.get(obj);
+    }
+
+    // Node de um valor com uma única ocorrência
+    Node<T> node(Slot<T> slot, Object obj) {
+      if (slot.node == null) {
+        // Voltou a ter uma ocorrência depois de remoções, localiza o node restante
+        for (Node<T> trav = head; trav != null; trav = trav.next) {
+          if (obj == null ? trav.data == null : obj.equals(trav.data)) {
+            slot.node = trav;
+            break;
+          }
+        }
+      }
+      return slot.node;
+    }
+
+    void onInsert(Node<T> node) {
+      Slot<T> slot = slots.get(node.data);
+      if (slot == null) {
+        slots.put(node.data, new Slot<T>(node));
+      } else {
+        slot.count++;
+        slot.node = null;
       }
-      trav = trav.next;
     }
-    sb.append(" ]");
-    return sb.toString();
+
+    void onRemove(Node<T> node) {
+      Slot<T> slot = slots.get(node.data);
+      if (--slot.count == 0) slots.remove(node.data);
+      else slot.node = null;
+    }
+  }
+
+  private static final class Slot<T> {
+    private Node<T> node;
+    private int count = 1;
+
+    Slot(Node<T> node) {
+      this.node = node;
+    }
+  }
+
+  // Tabela de nodes amostrados para acesso posicional
+  //
+  // nodes[k] está no índice real pos[k] + offset, com pos crescente. Inserções e remoções
+  // no head só alteram `offset` (O(1)); no meio atualizam as amostras seguintes
+  // (O(n / stride)). As buscas partem da amostra, head ou tail mais próximo e, se o
+  // percurso for maior que `stride`, o node encontrado vira uma nova amostra, então a
+  // tabela se reconstrói aos poucos nas regiões acessadas. Quando o tamanho se afasta
+  // muito do usado para escolher `stride` a tabela é reconstruída inteira (O(n) amortizado).
+  private final class PositionIndex {
+    private static final int MIN_STRIDE = 16;
+
+    private Object[] nodes = new Object[16];
+    private int[] pos = new int[16];
+    private int count = 0;
+    private int offset = 0;
+    private int stride = MIN_STRIDE;
+
+    void reset() {
+      count = 0;
+      offset = 0;
+      stride = MIN_STRIDE;
+    }
+
+    // Reconstrói a tabela inteira com stride ~ sqrt(size), O(n)
+    void rebuild() {
+      reset();
+      stride = Math.max(MIN_STRIDE, (int) Math.sqrt(size));
+      int i = 0;
+      for (Node<T> trav = head; trav != null; trav = trav.next, i++) {
+        if (i % stride == 0) insertSample(count, trav, i);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> node(int k) {
+      return (Node<T>) nodes[k];
+    }
+
+    private int indexOf(int k) {
+      return pos[k] + offset;
+    }
+
+    // Maior k com índice real <= index, ou -1
+    private int floor(int index) {
+      int lo = 0, hi = count - 1;
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        if (indexOf(mid) <= index) lo = mid + 1;
+        else hi = mid - 1;
+      }
+      return hi;
+    }
+
+    private void insertSample(int k, Node<T> node, int index) {
+      if (count == nodes.length) {
+        nodes = java.util.Arrays.copyOf(nodes, count * 2);
+        pos = java.util.Arrays.copyOf(pos, count * 2);
+      }
+      System.arraycopy(nodes, k, nodes, k + 1, count - k);
+      System.arraycopy(pos, k, pos, k + 1, count - k);
+      nodes[k] = node;
+      pos[k] = index - offset;
+      count++;
+    }
+
+    private void removeSample(int k) {
+      System.arraycopy(nodes, k + 1, nodes, k, count - k - 1);
+      System.arraycopy(pos, k + 1, pos, k, count - k - 1);
+      nodes[--count] = null;
+    }
+
+    Node<T> nodeAt(int index) {
+      long target = (long) stride * stride;
+      if (size > 4 * target || (stride > MIN_STRIDE && 4L * size < target)) rebuild();
+
+      // Ponto de partida mais próximo: head, tail ou as amostras vizinhas
+      Node<T> start = head;
+      int startIndex = 0;
+      if (size - 1 - index < index) {
+        start = tail;
+        startIndex = size - 1;
+      }
+      int k = floor(index);
+      if (k >= 0 && index - indexOf(k) < Math.abs(index - startIndex)) {
+        start = node(k);
+        startIndex = indexOf(k);
+      }
+      if (k + 1 < count && indexOf(k + 1) - index < Math.abs(index - startIndex)) {
+        start = node(k + 1);
+        startIndex = indexOf(k + 1);
+      }
+
+      Node<T> trav = start;
+      for (int i = startIndex; i < index; i++) trav = trav.next;
+      for (int i = startIndex; i > index; i--) trav = trav.prev;
+      if (Metrics.ENABLED) Metrics.traversal("DoublyLinkedList", Math.abs(index - startIndex));
+
+      // Percurso longo: amostra o node encontrado para acelerar os próximos acessos
+      if (Math.abs(index - startIndex) > stride) insertSample(k + 1, trav, index);
+      return trav;
+    }
+
+    // `node` foi inserido no índice `index`; os nodes a partir dele andaram uma posição
+    void onInsert(int index, Node<T> node) {
+      if (index == 0) {
+        offset++;
+      } else {
+        for (int k = floor(index - 1) + 1; k < count; k++) pos[k]++;
+      }
+      // Mantém amostras no final para que addLast não crie um trecho longo sem amostras
+      if (index == size - 1 && (count == 0 || index - indexOf(count - 1) >= stride)) {
+        insertSample(count, node, index);
+      }
+    }
+
+    // `node` no índice `index` será removido; os nodes seguintes voltam uma posição
+    void onRemove(int index, Node<T> node) {
+      int k = floor(index);
+      if (k >= 0 && node(k) == node) removeSample(k);
+      if (index == 0) {
+        offset--;
+      } else {
+        for (int j = floor(index) + 1; j < count; j++) pos[j]--;
+      }
+      if (size == 1) reset(); // A lista ficará vazia
+    }
   }
 
   // Exemplo de uso
@@ -279,5 +789,13 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     ar.removeAt(2);
 
     System.out.println(ar);
+
+    ar.enablePositionIndex();
+    System.out.println(ar.get(2)); // -2
+
+    ar.enableHashIndex();
+    ar.moveToFront(-2);
+    System.out.println(ar.contains(6)); // false
+    System.out.println(ar); // [ -2, 3, 7, 5 ]
   }
 }
@@ -0,0 +1,234 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Array de int somente-append seguro para várias threads, sem locks
+//
+// Os elementos ficam em segmentos de tamanho geométrico (16, 32, 64, ...), então crescer
+// nunca copia nem bloqueia leitores. add() reserva um índice com getAndIncrement, grava o
+// valor e marca o slot como escrito; qualquer thread avança o contador `published` sobre
+// o prefixo contíguo de slots escritos. Índices abaixo de size() estão publicados e
+// nunca mudam, por isso get() é wait-free e snapshot() é O(1).
+public class ConcurrentDynamicArray implements Iterable<Integer> {
+
+  private static final int FIRST_SHIFT = 4; // Primeiro segmento com 2^4 = 16 elementos
+  private static final int FIRST_SIZE = 1 << FIRST_SHIFT;
+  private static final int SEGMENTS = Integer.SIZE - 1 - FIRST_SHIFT;
+
+  // Maior índice endereçável pelos segmentos
+  public static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SIZE;
+
+  private static final VarHandle FLAGS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+  // Segmento: valores e marcas de "escrito" para cada slot
+  private static final class Segment {
+    final int[] values;
+    final byte[] written;
+
+    Segment(int size) {
+      values = new int[size];
+      written = new byte[size];
+    }
+  }
+
+  private final AtomicReferenceArray<Segment> segments = new AtomicReferenceArray<>(SEGMENTS);
+  private final AtomicInteger reserved = new AtomicInteger(); // Próximo índice a ser reservado
+  private final AtomicInteger published = new AtomicInteger(); // Prefixo visível aos leitores
+
+  public ConcurrentDynamicArray() {
+    segments.set(0, new Segment(FIRST_SIZE));
+  }
+
+  // Índice do segmento que contém `index`
+  private static int segmentOf(int index) {
+    return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(index + FIRST_SIZE) - FIRST_SHIFT;
+  }
+
+  // Posição de `index` dentro do seu segmento
+  private static int offsetOf(int index) {
+    int j = index + FIRST_SIZE;
+    return j - Integer.highestOneBit(j);
+  }
+
+  // Retorna o número de elementos publicados
+  public int size() {
+    return published.get();
+  }
+
+  // Retorna true/false caso o array esteja vazio
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Adiciona um elemento sem bloquear, retorna o índice reservado
+  // O elemento fica visível em get() assim que todos os índices anteriores forem escritos
+  public int add(int elem) {
+    int index = reserved.getAndIncrement();
+    if (index < 0 || index >= MAX_SIZE) {
+      reserved.getAndDecrement();
+      throw new IllegalStateException("Array is full. Cannot add more elements.");
+    }
+    Segment seg = segment(segmentOf(index));
+    int offset = offsetOf(index);
+    seg.values[offset] = elem;
+    FLAGS.setVolatile(seg.written, offset, (byte) 1);
+    advancePublished();
+    return index;
+  }
+
+  // Retorna o segmento, alocando-o se necessário; em caso de corrida vence o primeiro CAS
+  private Segment segment(int s) {
+    Segment seg = segments.get(s);
+    if (seg != null) return seg;
+    Segment created = new Segment(FIRST_SIZE << s);
+    return segments.compareAndSet(s, null, created) ? created : segments.get(s);
+  }
+
+  // Avança `published` enquanto o próximo slot já estiver escrito (qualquer thread ajuda)
+  // As marcas usam acesso volatile: com release/acquire, dois escritores poderiam cada um
+  // não ver a marca do outro e nenhum avançaria o contador
+  private void advancePublished() {
+    while (true) {
+      int p = published.get();
+      if (p >= reserved.get()) return;
+      Segment seg = segments.get(segmentOf(p));
+      if (seg == null || (byte) FLAGS.getVolatile(seg.written, offsetOf(p)) == 0) return;
+      published.compareAndSet(p, p + 1);
+    }
+  }
+
+  // Leitura wait-free de um índice publicado
+  public int get(int index) {
+    if (index >= 0 && index < published.get()) {
+      return segments.get(segmentOf(index)).values[offsetOf(index)];
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  // Visão imutável dos elementos publicados até agora, O(1)
+  public Snapshot snapshot() {
+    return new Snapshot(segments, published.get());
+  }
+
+  // Aplica a ação nos elementos publicados no momento da chamada
+  public void forEachInt(IntConsumer action) {
+    snapshot().forEachInt(action);
+  }
+
+  public IntStream stream() {
+    return snapshot().stream();
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return snapshot().iterator();
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+
+  // Prefixo publicado de um ConcurrentDynamicArray; não muda com novos add()
+  public static final class Snapshot implements Iterable<Integer> {
+    private final AtomicReferenceArray<Segment> segments;
+    private final int size;
+
+    private Snapshot(AtomicReferenceArray<Segment> segments, int size) {
+      this.segments = segments;
+      this.size = size;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public int get(int index) {
+      if (index >= 0 && index < size) {
+        return segments.get(segmentOf(index)).values[offsetOf(index)];
+      } else {
+        throw new IndexOutOfBoundsException("Index out of range.");
+      }
+    }
+
+    // Percorre segmento a segmento, sem recalcular a posição de cada índice
+    public void forEachInt(IntConsumer action) {
+      int remaining = size;
+      for (int s = 0; remaining > 0; s++) {
+        int[] values = segments.get(s).values;
+        int n = Math.min(values.length, remaining);
+        for (int i = 0; i < n; i++) action.accept(values[i]);
+        remaining -= n;
+      }
+    }
+
+    public IntStream stream() {
+      return IntStream.range(0, size).map(this::get);
+    }
+
+    public int[] toArray() {
+      int[] out = new int[size];
+      int pos = 0;
+      for (int s = 0; pos < size; s++) {
+        int[] values = segments.get(s).values;
+        int n = Math.min(values.length, size - pos);
+        System.arraycopy(values, 0, out, pos, n);
+        pos += n;
+      }
+      return out;
+    }
+
+    // Copia para um DynamicArray comum (não concorrente)
+    public DynamicArray toDynamicArray() {
+      return new DynamicArray(toArray());
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+      return new PrimitiveIterator.OfInt() {
+        int index = 0;
+
+        @Override
+        public boolean hasNext() {
+          return index < size;
+        }
+
+        @Override
+        public int nextInt() {
+          if (index >= size) throw new NoSuchElementException();
+          return get(index++);
+        }
+      };
+    }
+
+    @Override
+    public String toString() {
+      return toDynamicArray().toString();
+    }
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) throws InterruptedException {
+    ConcurrentDynamicArray ar = new ConcurrentDynamicArray();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      int base = t * 1000;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 1000; i++) ar.add(base + i);
+      });
+      threads[t].start();
+    }
+    for (Thread t : threads) t.join();
+
+    Snapshot snap = ar.snapshot();
+    System.out.println(snap.size() + " " + snap.stream().asLongStream().sum());
+  }
+}
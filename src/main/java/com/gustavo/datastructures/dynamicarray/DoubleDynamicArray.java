@@ -0,0 +1,230 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+// Variante de DynamicArray que armazena double sem boxing
+public class DoubleDynamicArray implements Iterable<Double> {
+
+  private static final int DEFAULT_CAP = 1 << 3; // Shift - 1 << 3 = 2^3 = 8
+
+  private double[] arr; // A capacidade é sempre arr.length
+  private int len = 0;
+
+  private GrowthPolicy growthPolicy = GrowthPolicy.doubling(); // A mesma do DynamicArray
+
+  // Iniciar o array com capacidade default
+  public DoubleDynamicArray() {
+    this(DEFAULT_CAP);
+  }
+
+  // Iniciar o array com uma determinada capacidade
+  public DoubleDynamicArray(int capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    arr = new double[capacity];
+  }
+
+  // Iniciar o array com uma determinada capacidade e política de crescimento
+  public DoubleDynamicArray(int capacity, GrowthPolicy growthPolicy) {
+    this(capacity);
+    setGrowthPolicy(growthPolicy);
+  }
+
+  // Dado um array transforma em um dynamic array
+  public DoubleDynamicArray(double[] array) {
+    if (array == null) throw new IllegalArgumentException("Array cannot be null");
+    arr = java.util.Arrays.copyOf(array, array.length);
+    len = array.length;
+  }
+
+  // Retorna o tamanho do array
+  public int size() {
+    return len;
+  }
+
+  // Retorna true/false caso o array esteja vazio
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  // Retorna a capacidade atual do array
+  public int capacity() {
+    return arr.length;
+  }
+
+  // Define a política usada quando o array precisa crescer
+  public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+    if (growthPolicy == null) throw new IllegalArgumentException("Growth policy cannot be null");
+    this.growthPolicy = growthPolicy;
+  }
+
+  // Garante espaço para pelo menos `minCapacity` elementos sem realocar, O(n) se crescer
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity > arr.length) arr = java.util.Arrays.copyOf(arr, minCapacity);
+  }
+
+  // Reduz a capacidade para o número de elementos, O(n)
+  public void trimToSize() {
+    if (len < arr.length) arr = java.util.Arrays.copyOf(arr, len);
+  }
+
+  // Cresce segundo a política para caber `minCapacity` elementos
+  private void grow(int minCapacity) {
+    if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+      throw new OutOfMemoryError("Required array size too large");
+    }
+    long newCapacity = growthPolicy.grow(arr.length, minCapacity);
+    newCapacity = Math.min(Math.max(newCapacity, minCapacity), GrowthPolicy.MAX_ARRAY_SIZE);
+    arr = java.util.Arrays.copyOf(arr, (int) newCapacity);
+  }
+
+  public double get(int index) {
+    if (index >= 0 && index < len) {
+      return arr[index];
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  public void set(int index, double elem) {
+    if (index >= 0 && index < len) {
+      arr[index] = elem;
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  // Adicionar um elemento no array
+  public void add(double elem) {
+    if (len == arr.length) grow(len + 1);
+    arr[len++] = elem;
+  }
+
+  // Remove o elemento em um índice específico
+  // Método com O(n), já que reconstroi o array
+  public void removeAt(int rm_index) {
+    if (rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException("Index out of range.");
+    System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+    --len;
+  }
+
+  // Pesquisa e remove um elemento se encontrado
+  // Método com O(n), já que percorre todo o array para buscar elemento
+  public boolean remove(double elem) {
+    for (int i = 0; i < len; i++) {
+      if (Double.compare(arr[i], elem) == 0) {
+        removeAt(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Reverte os conteúdos do array
+  public void reverse() {
+    for (int i = 0; i < len / 2; i++) {
+      double tmp = arr[i];
+      arr[i] = arr[len - i - 1];
+      arr[len - i - 1] = tmp;
+    }
+  }
+
+  // Executa binary search no array,
+  // Método com O(log(n))
+  // Array precisa estar ordenado
+  // Se não encontrado retorna onde o elemento deveria ser inserido
+  public int binarySearch(double key) {
+    int index = java.util.Arrays.binarySearch(arr, 0, len, key);
+    if (index < 0) index = -index - 1; // Se não encontrado irá dizer onde deverá ser inserido
+    return index;
+  }
+
+  // Ordena o array
+  public void sort() {
+    java.util.Arrays.sort(arr, 0, len);
+  }
+
+  // Copia `count` elementos a partir de `from` para dst[off..], O(count)
+  public void copyTo(double[] dst, int off, int from, int count) {
+    if (dst == null) throw new IllegalArgumentException("Array cannot be null");
+    if (from < 0 || count < 0 || count > len - from || off < 0 || count > dst.length - off) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    System.arraycopy(arr, from, dst, off, count);
+  }
+
+  // Retorna uma cópia dos elementos do array, O(n)
+  public double[] toArray() {
+    return java.util.Arrays.copyOf(arr, len);
+  }
+
+  // Aplica a ação em cada elemento sem boxing, O(n); nome distinto de Iterable.forEach
+  public void forEachDouble(DoubleConsumer action) {
+    for (int i = 0; i < len; i++) action.accept(arr[i]);
+  }
+
+  // Stream primitivo sobre os elementos, divisível para streams paralelos
+  public DoubleStream stream() {
+    return StreamSupport.doubleStream(spliterator(), false);
+  }
+
+  // Spliterator SIZED/SUBSIZED sobre arr[0..len)
+  @Override
+  public Spliterator.OfDouble spliterator() {
+    return Spliterators.spliterator(arr, 0, len, Spliterator.ORDERED);
+  }
+
+  // Iterador primitivo, use nextDouble() para evitar boxing
+  public PrimitiveIterator.OfDouble doubleIterator() {
+    return new PrimitiveIterator.OfDouble() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < len;
+      }
+
+      @Override
+      public double nextDouble() {
+        if (index >= len) throw new NoSuchElementException();
+        return arr[index++];
+      }
+
+      @Override
+      public void forEachRemaining(DoubleConsumer action) {
+        for (; index < len; index++) action.accept(arr[index]);
+      }
+    };
+  }
+
+  @Override
+  public PrimitiveIterator.OfDouble iterator() {
+    return doubleIterator();
+  }
+
+  @Override
+  public String toString() {
+    if (len == 0) return "[]";
+    StringBuilder sb = new StringBuilder(len * 4 + 2).append('[');
+    for (int i = 0; i < len - 1; i++) sb.append(arr[i]).append(", ");
+    return sb.append(arr[len - 1]).append(']').toString();
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    DoubleDynamicArray ar = new DoubleDynamicArray();
+    ar.add(0.75);
+    ar.add(0.25);
+    ar.add(0.5);
+
+    ar.sort();
+
+    System.out.println(ar);
+    System.out.println(ar.stream().average().getAsDouble());
+  }
+}
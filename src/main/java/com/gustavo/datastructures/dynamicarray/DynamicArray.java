@@ -1,14 +1,34 @@
 package com.gustavo.datastructures.dynamicarray;
 
-import java.util.Iterator;
+import com.gustavo.datastructures.hash.IntIntHashMap;
+import com.gustavo.datastructures.metrics.Metrics;
+import com.gustavo.datastructures.util.Appendables;
+import com.gustavo.datastructures.util.RadixSort;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class DynamicArray implements Iterable<Integer> {
 
   private static final int DEFAULT_CAP = 1 << 3; // Shift - 1 << 3 = 2^3 = 8
 
-  public int[] arr;
+  private int[] arr; // A capacidade é sempre arr.length
   private int len = 0;
-  private int capacity = 0;
+  private boolean sorted = true; // Mantido por todas as operações de escrita
+
+  private GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+  private double shrinkThreshold = 0.0; // 0 desabilita o encolhimento automático
+  private IntIntHashMap membership = null; // Opcional, ver enableMembershipIndex()
 
   // Iniciar o array com capacidade default
   public DynamicArray() {
@@ -18,15 +38,21 @@ public class DynamicArray implements Iterable<Integer> {
   // Iniciar o array com uma determinada capacidade
   public DynamicArray(int capacity) {
     if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
-    this.capacity = capacity;
     arr = new int[capacity];
   }
 
+  // Iniciar o array com uma determinada capacidade e política de crescimento
+  public DynamicArray(int capacity, GrowthPolicy growthPolicy) {
+    this(capacity);
+    setGrowthPolicy(growthPolicy);
+  }
+
   // Dado um array transforma em um dynamic array
   public DynamicArray(int[] array) {
     if (array == null) throw new IllegalArgumentException("Array cannot be null");
     arr = java.util.Arrays.copyOf(array, array.length);
-    capacity = len = array.length;
+    len = array.length;
+    sorted = isSortedRange(0, len);
   }
 
   // Retorna o tamanho do array
@@ -34,13 +60,70 @@ public class DynamicArray implements Iterable<Integer> {
     return len;
   }
 
+  // Retorna true se os elementos estão em ordem crescente, O(1)
+  public boolean isSorted() {
+    return sorted;
+  }
+
   // Retorna true/false caso o array esteja vazio
   public boolean isEmpty() {
     return len == 0;
   }
 
-  // Para obter/definir valores sem sobrecarga de chamada de método, você pode usar
-  // array_obj.arr[index] e ganhar cerca de 10 vezes mais velocidade!
+  // Retorna a capacidade atual do array
+  public int capacity() {
+    return arr.length;
+  }
+
+  // Define a política usada quando o array precisa crescer
+  public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+    if (growthPolicy == null) throw new IllegalArgumentException("Growth policy cannot be null");
+    this.growthPolicy = growthPolicy;
+  }
+
+  // Encolhe o array quando a ocupação cai abaixo de `threshold` (0 desabilita)
+  // O novo tamanho deixa o array com metade da capacidade ocupada, evitando
+  // alternar entre crescer e encolher com poucas operações (histerese)
+  public void setShrinkThreshold(double threshold) {
+    if (!(threshold >= 0.0 && threshold < 0.5)) {
+      throw new IllegalArgumentException("Illegal Threshold: " + threshold);
+    }
+    this.shrinkThreshold = threshold;
+  }
+
+  // Garante espaço para pelo menos `minCapacity` elementos sem realocar, O(n) se crescer
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity > arr.length) resize(minCapacity);
+  }
+
+  // Reduz a capacidade para o número de elementos, O(n)
+  public void trimToSize() {
+    if (len < arr.length) resize(len);
+  }
+
+  // Cresce segundo a política para caber `minCapacity` elementos
+  private void grow(int minCapacity) {
+    if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+      throw new OutOfMemoryError("Required array size too large");
+    }
+    long newCapacity = growthPolicy.grow(arr.length, minCapacity);
+    newCapacity = Math.min(Math.max(newCapacity, minCapacity), GrowthPolicy.MAX_ARRAY_SIZE);
+    resize((int) newCapacity);
+  }
+
+  // Encolhe se a ocupação caiu abaixo do limite configurado
+  private void maybeShrink() {
+    if (shrinkThreshold > 0.0 && arr.length > DEFAULT_CAP && len < arr.length * shrinkThreshold) {
+      resize(Math.max(len << 1, DEFAULT_CAP));
+    }
+  }
+
+  private void resize(int newCapacity) {
+    if (Metrics.ENABLED) Metrics.resize("DynamicArray", arr.length, newCapacity, (long) len * Integer.BYTES);
+    arr = java.util.Arrays.copyOf(arr, newCapacity);
+  }
+
+  // Para percorrer sem boxing use intIterator(), forEachInt(IntConsumer), stream() ou copyTo()
   public int get(int index) {
     if (index >= 0 && index < len) {
       return arr[index];
@@ -51,7 +134,12 @@ public class DynamicArray implements Iterable<Integer> {
 
   public void set(int index, int elem) {
     if (index >= 0 && index < len) {
+      if (membership != null) {
+        indexRemove(arr[index]);
+        membership.addTo(elem, 1);
+      }
       arr[index] = elem;
+      if (sorted) sorted = isSortedRange(index, index + 1);
     } else {
       throw new IndexOutOfBoundsException("Index out of range.");
     }
@@ -59,85 +147,404 @@ public class DynamicArray implements Iterable<Integer> {
 
   // Adicionar um elemento no array
   public void add(int elem) {
-    if (len + 1 >= capacity) {
-      if (capacity == 0) capacity = 1;
-      else capacity *= 2; // Dobrar o tamanho
-      arr = java.util.Arrays.copyOf(arr, capacity);
-    }
+    if (len == arr.length) grow(len + 1);
+    if (sorted && len > 0 && arr[len - 1] > elem) sorted = false;
+    if (membership != null) membership.addTo(elem, 1);
     arr[len++] = elem;
   }
 
   // Remove o elemento em um índice específico
   // Método com O(n), já que reconstroi o array
   public void removeAt(int rm_index) {
+    if (rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException("Index out of range.");
+    if (membership != null) indexRemove(arr[rm_index]);
     System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+    if (Metrics.ENABLED) Metrics.shift("DynamicArray", len - rm_index - 1);
     --len;
-    --capacity;
+    maybeShrink();
   }
 
   // Pesquisa e remove um elemento se encontrado
   // Método com O(n), já que percorre todo o array para buscar elemento
+  // (com o índice de pertinência, elementos ausentes são rejeitados em O(1))
   public boolean remove(int elem) {
-    for (int i = 0; i < len; i++) {
-      if (arr[i] == elem) {
-        removeAt(i);
-        return true;
-      }
+    int index = indexOf(elem);
+    if (index < 0) return false;
+    removeAt(index);
+    return true;
+  }
+
+  // Retorna o índice da primeira ocorrência do elemento ou -1, O(n)
+  public int indexOf(int elem) {
+    if (membership != null && !membership.containsKey(elem)) return -1;
+    return IntKernels.indexOf(arr, 0, len, elem);
+  }
+
+  // Verifica se o elemento está no array, O(n) (O(1) esperado com o índice de pertinência)
+  public boolean contains(int elem) {
+    if (membership != null) return membership.containsKey(elem);
+    return indexOf(elem) != -1;
+  }
+
+  // Retorna o número de ocorrências do elemento, O(n) (O(1) esperado com o índice de pertinência)
+  public int count(int elem) {
+    if (membership != null) return membership.get(elem);
+    return IntKernels.countEquals(arr, 0, len, elem);
+  }
+
+  // Soma dos elementos em long (sem overflow), O(n)
+  public long sum() {
+    return IntKernels.sum(arr, 0, len);
+  }
+
+  // Menor elemento, O(n) (O(1) se o array estiver ordenado)
+  public int min() {
+    if (isEmpty()) throw new IllegalStateException("Array is empty");
+    if (sorted) return arr[0];
+    return IntKernels.min(arr, 0, len);
+  }
+
+  // Maior elemento, O(n) (O(1) se o array estiver ordenado)
+  public int max() {
+    if (isEmpty()) throw new IllegalStateException("Array is empty");
+    if (sorted) return arr[len - 1];
+    return IntKernels.max(arr, 0, len);
+  }
+
+  // Substitui todos os elementos por `value`, O(n)
+  public void fill(int value) {
+    IntKernels.fill(arr, 0, len, value);
+    sorted = true;
+    if (membership != null) {
+      membership.clear();
+      if (len > 0) membership.put(value, len);
+    }
+  }
+
+  // Novo array com os elementos em [lo, hi], na mesma ordem, O(n)
+  public DynamicArray filterRange(int lo, int hi) {
+    DynamicArray result = new DynamicArray(Math.max(len, 1));
+    if (lo <= hi) result.len = IntKernels.filterRange(arr, 0, len, lo, hi, result.arr, 0);
+    result.sorted = sorted || result.isSortedRange(0, result.len);
+    return result;
+  }
+
+  // Retorna se as varreduras (indexOf, count, sum, min, max, fill, reverse, filterRange)
+  // estão usando a Vector API; requer --add-modules jdk.incubator.vector na JVM
+  public static boolean isVectorized() {
+    return IntKernels.VECTORIZED;
+  }
+
+  // Habilita o índice de pertinência: um IntIntHashMap elemento -> ocorrências mantido
+  // por todas as operações de escrita. contains e count ficam O(1) esperado e buscas
+  // por elementos ausentes terminam sem percorrer o array, O(n) para construir
+  public void enableMembershipIndex() {
+    if (membership != null) return;
+    membership = new IntIntHashMap(len);
+    for (int i = 0; i < len; i++) membership.addTo(arr[i], 1);
+  }
+
+  // Desabilita o índice de pertinência, liberando a tabela
+  public void disableMembershipIndex() {
+    membership = null;
+  }
+
+  // Retorna se o índice de pertinência está habilitado
+  public boolean isMembershipIndexEnabled() {
+    return membership != null;
+  }
+
+  // Decrementa a contagem do elemento no índice, removendo a chave ao chegar a zero
+  private void indexRemove(int elem) {
+    if (membership.addTo(elem, -1) == 0) membership.remove(elem);
+  }
+
+  // Versões paralelas das buscas, divididas no common pool ou em um pool dado
+  // Arrays menores que o limite de paralelismo usam o caminho sequencial
+  public int parallelIndexOf(int elem) {
+    return parallelIndexOf(elem, ForkJoinPool.commonPool());
+  }
+
+  public int parallelIndexOf(int elem, ForkJoinPool pool) {
+    if (pool == null) throw new IllegalArgumentException("Pool cannot be null");
+    if (membership != null && !membership.containsKey(elem)) return -1;
+    return ParallelOps.indexOf(arr, len, elem, pool);
+  }
+
+  public int parallelCount(int elem) {
+    return parallelCount(elem, ForkJoinPool.commonPool());
+  }
+
+  public int parallelCount(int elem, ForkJoinPool pool) {
+    if (pool == null) throw new IllegalArgumentException("Pool cannot be null");
+    if (membership != null) return membership.get(elem);
+    return ParallelOps.count(arr, len, elem, pool);
+  }
+
+  public boolean parallelRemove(int elem) {
+    return parallelRemove(elem, ForkJoinPool.commonPool());
+  }
+
+  public boolean parallelRemove(int elem, ForkJoinPool pool) {
+    int index = parallelIndexOf(elem, pool);
+    if (index < 0) return false;
+    removeAt(index);
+    return true;
+  }
+
+  // Adiciona `count` elementos de src[off..] ao final, no máximo uma realocação, O(count)
+  public void addAll(int[] src, int off, int count) {
+    if (src == null) throw new IllegalArgumentException("Array cannot be null");
+    if (off < 0 || count < 0 || count > src.length - off) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    if (count > arr.length - len) grow(len + count);
+    System.arraycopy(src, off, arr, len, count);
+    if (membership != null) {
+      for (int i = off; i < off + count; i++) membership.addTo(src[i], 1);
     }
-    return false;
+    int from = len;
+    len += count;
+    if (sorted) sorted = isSortedRange(from, len);
+  }
+
+  // Adiciona todos os elementos do array ao final
+  public void addAll(int[] src) {
+    if (src == null) throw new IllegalArgumentException("Array cannot be null");
+    addAll(src, 0, src.length);
+  }
+
+  // Adiciona todos os elementos de outro DynamicArray ao final
+  public void addAll(DynamicArray other) {
+    if (other == null) throw new IllegalArgumentException("Array cannot be null");
+    addAll(other.arr, 0, other.len);
+  }
+
+  // Insere os elementos de src a partir de `index`, deslocando o restante uma única vez, O(n + k)
+  public void insertAll(int index, int[] src) {
+    if (src == null) throw new IllegalArgumentException("Array cannot be null");
+    if (index < 0 || index > len) throw new IndexOutOfBoundsException("Index out of range.");
+    int count = src.length;
+    if (count > arr.length - len) grow(len + count);
+    System.arraycopy(arr, index, arr, index + count, len - index);
+    System.arraycopy(src, 0, arr, index, count);
+    if (Metrics.ENABLED) Metrics.shift("DynamicArray", len - index);
+    if (membership != null) {
+      for (int v : src) membership.addTo(v, 1);
+    }
+    len += count;
+    if (sorted) sorted = isSortedRange(index, index + count);
+  }
+
+  // Remove os elementos em [from, to) com um único deslocamento, O(n)
+  public void removeRange(int from, int to) {
+    if (from < 0 || to > len || from > to) throw new IndexOutOfBoundsException("Index out of range.");
+    if (membership != null) {
+      for (int i = from; i < to; i++) indexRemove(arr[i]);
+    }
+    System.arraycopy(arr, to, arr, from, len - to);
+    if (Metrics.ENABLED) Metrics.shift("DynamicArray", len - to);
+    len -= to - from;
+    maybeShrink();
+  }
+
+  // Remove todos os elementos que satisfazem o predicado, O(n)
+  // Como em ArrayList.removeIf, o predicado é avaliado em todos os elementos antes de
+  // qualquer escrita: se ele lançar exceção, o array continua intacto
+  // Retorna true se algum elemento foi removido
+  public boolean removeIf(IntPredicate filter) {
+    if (filter == null) throw new IllegalArgumentException("Filter cannot be null");
+    int first = 0;
+    while (first < len && !filter.test(arr[first])) first++;
+    if (first == len) return false;
+    // Marca as remoções a partir do primeiro elemento removido
+    BitSet removed = new BitSet(len - first);
+    removed.set(0);
+    for (int r = first + 1; r < len; r++) {
+      if (filter.test(arr[r])) removed.set(r - first);
+    }
+    int w = first;
+    for (int r = first; r < len; r++) {
+      int v = arr[r];
+      if (!removed.get(r - first)) arr[w++] = v;
+      else if (membership != null) indexRemove(v);
+    }
+    len = w;
+    maybeShrink();
+    return true;
   }
 
   // Reverte os conteúdos do array
   public void reverse() {
-    for (int i = 0; i < len / 2; i++) {
-      int tmp = arr[i];
-      arr[i] = arr[len - i - 1];
-      arr[len - i - 1] = tmp;
-    }
+    // Continua ordenado apenas se todos os elementos forem iguais
+    if (sorted && len > 1) sorted = arr[0] == arr[len - 1];
+    IntKernels.reverse(arr, 0, len);
   }
 
   // Executa binary search no array,
   // Método com O(log(n))
-  // Array precisa estar ordenado
-  // Retorna valor < 0 se não possui o elemento
+  // Array precisa estar ordenado, caso contrário lança IllegalStateException
+  // Se não encontrado retorna onde o elemento deveria ser inserido
   public int binarySearch(int key) {
+    if (!sorted) throw new IllegalStateException("Array is not sorted");
     int index = java.util.Arrays.binarySearch(arr, 0, len, key);
     if (index < 0) index = -index - 1; // Se não encontrado irá dizer onde deverá ser inserido
     return index;
   }
 
   // Ordena o array
+  // O(1) se o array já estiver ordenado
   public void sort() {
+    if (sorted) return;
     java.util.Arrays.sort(arr, 0, len);
+    sorted = true;
+  }
+
+  // Ordena com LSD radix sort (um buffer auxiliar de len ints), O(n)
+  // Mais rápido que sort() para arrays grandes com chaves bem distribuídas
+  public void radixSort() {
+    if (sorted) return;
+    RadixSort.sort(arr, 0, len);
+    sorted = true;
+  }
+
+  // Insere mantendo a ordem com um único deslocamento, O(n)
+  // Retorna o índice onde o elemento foi inserido
+  public int insertSorted(int elem) {
+    if (!sorted) throw new IllegalStateException("Array is not sorted");
+    int index = java.util.Arrays.binarySearch(arr, 0, len, elem);
+    if (index < 0) index = -index - 1;
+    if (len == arr.length) grow(len + 1);
+    System.arraycopy(arr, index, arr, index + 1, len - index);
+    if (Metrics.ENABLED) Metrics.shift("DynamicArray", len - index);
+    arr[index] = elem;
+    if (membership != null) membership.addTo(elem, 1);
+    len++;
+    return index;
+  }
+
+  // Verifica a ordem em arr[from..to) incluindo os vizinhos do intervalo, O(to - from)
+  private boolean isSortedRange(int from, int to) {
+    for (int i = Math.max(from, 1); i < Math.min(to + 1, len); i++) {
+      if (arr[i - 1] > arr[i]) return false;
+    }
+    return true;
   }
 
+  // Ordena o array em paralelo (common pool); arrays pequenos usam o sort sequencial
+  public void parallelSort() {
+    if (sorted) return;
+    if (len < ParallelOps.PARALLEL_THRESHOLD) {
+      sort();
+    } else {
+      java.util.Arrays.parallelSort(arr, 0, len);
+      sorted = true;
+    }
+  }
+
+  // Copia `count` elementos a partir de `from` para dst[off..], O(count)
+  public void copyTo(int[] dst, int off, int from, int count) {
+    if (dst == null) throw new IllegalArgumentException("Array cannot be null");
+    if (from < 0 || count < 0 || count > len - from || off < 0 || count > dst.length - off) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    System.arraycopy(arr, from, dst, off, count);
+  }
+
+  // Retorna uma cópia dos elementos do array, O(n)
+  public int[] toArray() {
+    return java.util.Arrays.copyOf(arr, len);
+  }
+
+  // Aplica a ação em cada elemento sem boxing, O(n). Nome distinto de
+  // Iterable.forEach para que lambdas não fiquem ambíguas entre as duas sobrecargas
+  public void forEachInt(IntConsumer action) {
+    for (int i = 0; i < len; i++) action.accept(arr[i]);
+  }
+
+  // Stream primitivo sobre os elementos, divisível para streams paralelos
+  public IntStream stream() {
+    return StreamSupport.intStream(spliterator(), false);
+  }
+
+  // Spliterator SIZED/SUBSIZED sobre arr[0..len)
   @Override
-  public Iterator<Integer> iterator() {
-    return new java.util.Iterator<Integer>() {
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(arr, 0, len, Spliterator.ORDERED);
+  }
+
+  // Iterador primitivo, use nextInt() para evitar boxing
+  public PrimitiveIterator.OfInt intIterator() {
+    return new PrimitiveIterator.OfInt() {
       int index = 0;
 
+      @Override
       public boolean hasNext() {
         return index < len;
       }
 
-      public Integer next() {
+      @Override
+      public int nextInt() {
+        if (index >= len) throw new NoSuchElementException();
         return arr[index++];
       }
 
-      public void remove() {
-        throw new UnsupportedOperationException();
+      @Override
+      public void forEachRemaining(IntConsumer action) {
+        for (; index < len; index++) action.accept(arr[index]);
       }
     };
   }
 
   @Override
-  public String toString() {
-    if (len == 0) return "[]";
-    else {
-      StringBuilder sb = new StringBuilder(len).append("[");
-      for (int i = 0; i < len - 1; i++) sb.append(arr[i] + ", ");
-      return sb.append(arr[len - 1] + "]").toString();
+  public PrimitiveIterator.OfInt iterator() {
+    return intIterator();
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, len);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    int shown = Math.min(len, maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append('[');
+    for (int i = 0; i < shown; i++) {
+      if (i > 0) out.append(", ");
+      Appendables.appendLong(out, arr[i], scratch);
+    }
+    if (shown < len) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, len - shown, scratch);
+      out.append(" more)");
     }
+    out.append(']');
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de arrays grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(len, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toString(len);
   }
 
   // Exemplo de uso
@@ -153,5 +560,8 @@ public class DynamicArray implements Iterable<Integer> {
     for (int i = 0; i < ar.size(); i++) System.out.println(ar.get(i));
 
     System.out.println(ar);
+    System.out.println(ar.stream().sum());
+    System.out.println(ar.sum() + " " + ar.min() + " " + ar.max()); // 14 -2 7
+    System.out.println(ar.filterRange(0, 6)); // [3, 6]
   }
 }
@@ -0,0 +1,39 @@
+package com.gustavo.datastructures.dynamicarray;
+
+// Estratégia de crescimento da capacidade de um DynamicArray (e das variantes Long/Double/Byte)
+@FunctionalInterface
+public interface GrowthPolicy {
+
+  // Maior tamanho de array que a JVM aloca com segurança
+  int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  // Retorna a próxima capacidade dado a capacidade atual e o mínimo necessário
+  // O resultado é ajustado pelo array para ficar entre minCapacity e MAX_ARRAY_SIZE
+  long grow(int capacity, int minCapacity);
+
+  // Dobra a capacidade a cada crescimento (padrão)
+  static GrowthPolicy doubling() {
+    return (capacity, minCapacity) -> Math.max(1, (long) capacity << 1);
+  }
+
+  // Cresce 1.5x, como o ArrayList
+  static GrowthPolicy oneAndHalf() {
+    return (capacity, minCapacity) -> Math.max(1, capacity + ((long) capacity >> 1));
+  }
+
+  // Cresce sempre em `increment` posições
+  static GrowthPolicy fixedIncrement(int increment) {
+    if (increment <= 0) throw new IllegalArgumentException("Illegal Increment: " + increment);
+    return (capacity, minCapacity) -> (long) capacity + increment;
+  }
+
+  // Cresce geometricamente por `factor`, mas nunca mais que `maxStep` posições por vez
+  static GrowthPolicy cappedGeometric(double factor, int maxStep) {
+    if (factor <= 1.0) throw new IllegalArgumentException("Illegal Factor: " + factor);
+    if (maxStep <= 0) throw new IllegalArgumentException("Illegal Step: " + maxStep);
+    return (capacity, minCapacity) -> {
+      long step = Math.max(1, (long) (capacity * (factor - 1.0)));
+      return (long) capacity + Math.min(step, maxStep);
+    };
+  }
+}
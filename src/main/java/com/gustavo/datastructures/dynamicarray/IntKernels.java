@@ -0,0 +1,97 @@
+package com.gustavo.datastructures.dynamicarray;
+
+// Varreduras sobre a[from..to) usadas por DynamicArray
+//
+// Quando o módulo jdk.incubator.vector está na boot layer (--add-modules
+// jdk.incubator.vector) as operações delegam para VectorIntKernels; caso contrário,
+// ou com -Dcom.gustavo.datastructures.vector=false, usam os laços escalares abaixo.
+// VECTORIZED é uma constante, então o JIT descarta o caminho não usado e
+// VectorIntKernels nem chega a ser carregada sem o módulo.
+final class IntKernels {
+
+  static final boolean VECTORIZED = vectorAvailable();
+
+  private IntKernels() {}
+
+  private static boolean vectorAvailable() {
+    if (!Boolean.parseBoolean(System.getProperty("com.gustavo.datastructures.vector", "true"))) return false;
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+    try {
+      Class.forName("com.gustavo.datastructures.dynamicarray.VectorIntKernels", true, IntKernels.class.getClassLoader());
+      return true;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return false;
+    }
+  }
+
+  static long sum(int[] a, int from, int to) {
+    if (VECTORIZED) return VectorIntKernels.sum(a, from, to);
+    long sum = 0;
+    for (int i = from; i < to; i++) sum += a[i];
+    return sum;
+  }
+
+  static int min(int[] a, int from, int to) {
+    if (VECTORIZED) return VectorIntKernels.min(a, from, to);
+    int min = Integer.MAX_VALUE;
+    for (int i = from; i < to; i++) min = Math.min(min, a[i]);
+    return min;
+  }
+
+  static int max(int[] a, int from, int to) {
+    if (VECTORIZED) return VectorIntKernels.max(a, from, to);
+    int max = Integer.MIN_VALUE;
+    for (int i = from; i < to; i++) max = Math.max(max, a[i]);
+    return max;
+  }
+
+  // Índice da primeira ocorrência de `key` ou -1
+  static int indexOf(int[] a, int from, int to, int key) {
+    if (VECTORIZED) return VectorIntKernels.indexOf(a, from, to, key);
+    for (int i = from; i < to; i++) {
+      if (a[i] == key) return i;
+    }
+    return -1;
+  }
+
+  static int countEquals(int[] a, int from, int to, int key) {
+    if (VECTORIZED) return VectorIntKernels.countEquals(a, from, to, key);
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      if (a[i] == key) count++;
+    }
+    return count;
+  }
+
+  static void fill(int[] a, int from, int to, int value) {
+    if (VECTORIZED) {
+      VectorIntKernels.fill(a, from, to, value);
+      return;
+    }
+    for (int i = from; i < to; i++) a[i] = value;
+  }
+
+  static void reverse(int[] a, int from, int to) {
+    if (VECTORIZED) {
+      VectorIntKernels.reverse(a, from, to);
+      return;
+    }
+    for (int i = from, j = to - 1; i < j; i++, j--) {
+      int tmp = a[i];
+      a[i] = a[j];
+      a[j] = tmp;
+    }
+  }
+
+  // Copia para dst[off..] os elementos com lo <= v <= hi, mantendo a ordem
+  // Requer lo <= hi e espaço em dst para to - from elementos; retorna quantos foram copiados
+  static int filterRange(int[] a, int from, int to, int lo, int hi, int[] dst, int off) {
+    if (VECTORIZED) return VectorIntKernels.filterRange(a, from, to, lo, hi, dst, off);
+    int w = off;
+    for (int i = from; i < to; i++) {
+      int v = a[i];
+      if (v >= lo && v <= hi) dst[w++] = v;
+    }
+    return w - off;
+  }
+}
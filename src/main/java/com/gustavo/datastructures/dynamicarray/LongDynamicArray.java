@@ -0,0 +1,230 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+// Variante de DynamicArray que armazena long sem boxing
+public class LongDynamicArray implements Iterable<Long> {
+
+  private static final int DEFAULT_CAP = 1 << 3; // Shift - 1 << 3 = 2^3 = 8
+
+  private long[] arr; // A capacidade é sempre arr.length
+  private int len = 0;
+
+  private GrowthPolicy growthPolicy = GrowthPolicy.doubling(); // A mesma do DynamicArray
+
+  // Iniciar o array com capacidade default
+  public LongDynamicArray() {
+    this(DEFAULT_CAP);
+  }
+
+  // Iniciar o array com uma determinada capacidade
+  public LongDynamicArray(int capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    arr = new long[capacity];
+  }
+
+  // Iniciar o array com uma determinada capacidade e política de crescimento
+  public LongDynamicArray(int capacity, GrowthPolicy growthPolicy) {
+    this(capacity);
+    setGrowthPolicy(growthPolicy);
+  }
+
+  // Dado um array transforma em um dynamic array
+  public LongDynamicArray(long[] array) {
+    if (array == null) throw new IllegalArgumentException("Array cannot be null");
+    arr = java.util.Arrays.copyOf(array, array.length);
+    len = array.length;
+  }
+
+  // Retorna o tamanho do array
+  public int size() {
+    return len;
+  }
+
+  // Retorna true/false caso o array esteja vazio
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  // Retorna a capacidade atual do array
+  public int capacity() {
+    return arr.length;
+  }
+
+  // Define a política usada quando o array precisa crescer
+  public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+    if (growthPolicy == null) throw new IllegalArgumentException("Growth policy cannot be null");
+    this.growthPolicy = growthPolicy;
+  }
+
+  // Garante espaço para pelo menos `minCapacity` elementos sem realocar, O(n) se crescer
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity > arr.length) arr = java.util.Arrays.copyOf(arr, minCapacity);
+  }
+
+  // Reduz a capacidade para o número de elementos, O(n)
+  public void trimToSize() {
+    if (len < arr.length) arr = java.util.Arrays.copyOf(arr, len);
+  }
+
+  // Cresce segundo a política para caber `minCapacity` elementos
+  private void grow(int minCapacity) {
+    if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+      throw new OutOfMemoryError("Required array size too large");
+    }
+    long newCapacity = growthPolicy.grow(arr.length, minCapacity);
+    newCapacity = Math.min(Math.max(newCapacity, minCapacity), GrowthPolicy.MAX_ARRAY_SIZE);
+    arr = java.util.Arrays.copyOf(arr, (int) newCapacity);
+  }
+
+  public long get(int index) {
+    if (index >= 0 && index < len) {
+      return arr[index];
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  public void set(int index, long elem) {
+    if (index >= 0 && index < len) {
+      arr[index] = elem;
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  // Adicionar um elemento no array
+  public void add(long elem) {
+    if (len == arr.length) grow(len + 1);
+    arr[len++] = elem;
+  }
+
+  // Remove o elemento em um índice específico
+  // Método com O(n), já que reconstroi o array
+  public void removeAt(int rm_index) {
+    if (rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException("Index out of range.");
+    System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+    --len;
+  }
+
+  // Pesquisa e remove um elemento se encontrado
+  // Método com O(n), já que percorre todo o array para buscar elemento
+  public boolean remove(long elem) {
+    for (int i = 0; i < len; i++) {
+      if (arr[i] == elem) {
+        removeAt(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Reverte os conteúdos do array
+  public void reverse() {
+    for (int i = 0; i < len / 2; i++) {
+      long tmp = arr[i];
+      arr[i] = arr[len - i - 1];
+      arr[len - i - 1] = tmp;
+    }
+  }
+
+  // Executa binary search no array,
+  // Método com O(log(n))
+  // Array precisa estar ordenado
+  // Se não encontrado retorna onde o elemento deveria ser inserido
+  public int binarySearch(long key) {
+    int index = java.util.Arrays.binarySearch(arr, 0, len, key);
+    if (index < 0) index = -index - 1; // Se não encontrado irá dizer onde deverá ser inserido
+    return index;
+  }
+
+  // Ordena o array
+  public void sort() {
+    java.util.Arrays.sort(arr, 0, len);
+  }
+
+  // Copia `count` elementos a partir de `from` para dst[off..], O(count)
+  public void copyTo(long[] dst, int off, int from, int count) {
+    if (dst == null) throw new IllegalArgumentException("Array cannot be null");
+    if (from < 0 || count < 0 || count > len - from || off < 0 || count > dst.length - off) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    System.arraycopy(arr, from, dst, off, count);
+  }
+
+  // Retorna uma cópia dos elementos do array, O(n)
+  public long[] toArray() {
+    return java.util.Arrays.copyOf(arr, len);
+  }
+
+  // Aplica a ação em cada elemento sem boxing, O(n); nome distinto de Iterable.forEach
+  public void forEachLong(LongConsumer action) {
+    for (int i = 0; i < len; i++) action.accept(arr[i]);
+  }
+
+  // Stream primitivo sobre os elementos, divisível para streams paralelos
+  public LongStream stream() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  // Spliterator SIZED/SUBSIZED sobre arr[0..len)
+  @Override
+  public Spliterator.OfLong spliterator() {
+    return Spliterators.spliterator(arr, 0, len, Spliterator.ORDERED);
+  }
+
+  // Iterador primitivo, use nextLong() para evitar boxing
+  public PrimitiveIterator.OfLong longIterator() {
+    return new PrimitiveIterator.OfLong() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < len;
+      }
+
+      @Override
+      public long nextLong() {
+        if (index >= len) throw new NoSuchElementException();
+        return arr[index++];
+      }
+
+      @Override
+      public void forEachRemaining(LongConsumer action) {
+        for (; index < len; index++) action.accept(arr[index]);
+      }
+    };
+  }
+
+  @Override
+  public PrimitiveIterator.OfLong iterator() {
+    return longIterator();
+  }
+
+  @Override
+  public String toString() {
+    if (len == 0) return "[]";
+    StringBuilder sb = new StringBuilder(len * 4 + 2).append('[');
+    for (int i = 0; i < len - 1; i++) sb.append(arr[i]).append(", ");
+    return sb.append(arr[len - 1]).append(']').toString();
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    LongDynamicArray ar = new LongDynamicArray();
+    ar.add(1_700_000_000_000L);
+    ar.add(1_600_000_000_000L);
+    ar.add(1_650_000_000_000L);
+
+    ar.sort();
+
+    System.out.println(ar);
+    System.out.println(ar.stream().max().getAsLong());
+  }
+}
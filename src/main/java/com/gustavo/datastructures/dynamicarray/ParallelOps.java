@@ -0,0 +1,96 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Buscas paralelas sobre arr[0..len) usando fork/join
+final class ParallelOps {
+
+  // Abaixo deste tamanho as operações paralelas usam o caminho sequencial
+  static final int PARALLEL_THRESHOLD = 1 << 17;
+
+  // Tamanho do bloco processado por uma única tarefa
+  private static final int LEAF_SIZE = 1 << 14;
+
+  private ParallelOps() {}
+
+  // Índice da primeira ocorrência de `key` ou -1
+  static int indexOf(int[] arr, int len, int key, ForkJoinPool pool) {
+    if (len < PARALLEL_THRESHOLD) return indexOf(arr, 0, len, key);
+    return pool.invoke(new IndexOfTask(arr, 0, len, key, new AtomicInteger(Integer.MAX_VALUE)));
+  }
+
+  // Número de ocorrências de `key`
+  static int count(int[] arr, int len, int key, ForkJoinPool pool) {
+    if (len < PARALLEL_THRESHOLD) return count(arr, 0, len, key);
+    return pool.invoke(new CountTask(arr, 0, len, key));
+  }
+
+  // Os blocos sequenciais usam IntKernels, vetorizados quando a Vector API está disponível
+  static int indexOf(int[] arr, int from, int to, int key) {
+    return IntKernels.indexOf(arr, from, to, key);
+  }
+
+  static int count(int[] arr, int from, int to, int key) {
+    return IntKernels.countEquals(arr, from, to, key);
+  }
+
+  // Divide o intervalo ao meio; `best` guarda o menor índice já encontrado para que
+  // blocos à direita dele sejam descartados sem varredura
+  private static final class IndexOfTask extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] arr;
+    private final int from, to, key;
+    private final AtomicInteger best;
+
+    IndexOfTask(int[] arr, int from, int to, int key, AtomicInteger best) {
+      this.arr = arr;
+      this.from = from;
+      this.to = to;
+      this.key = key;
+      this.best = best;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (best.get() < from) return -1;
+      if (to - from <= LEAF_SIZE) {
+        int index = indexOf(arr, from, to, key);
+        if (index >= 0) best.accumulateAndGet(index, Math::min);
+        return index;
+      }
+      int mid = (from + to) >>> 1;
+      IndexOfTask right = new IndexOfTask(arr, mid, to, key, best);
+      right.fork();
+      int left = new IndexOfTask(arr, from, mid, key, best).compute();
+      int r = right.join();
+      return left >= 0 ? left : r;
+    }
+  }
+
+  private static final class CountTask extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] arr;
+    private final int from, to, key;
+
+    CountTask(int[] arr, int from, int to, int key) {
+      this.arr = arr;
+      this.from = from;
+      this.to = to;
+      this.key = key;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (to - from <= LEAF_SIZE) return count(arr, from, to, key);
+      int mid = (from + to) >>> 1;
+      CountTask right = new CountTask(arr, mid, to, key);
+      right.fork();
+      int left = new CountTask(arr, from, mid, key).compute();
+      return left + right.join();
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+// Versões SIMD das varreduras de IntKernels com IntVector na espécie preferida da
+// plataforma. Os trechos que não completam um vetor usam laços escalares.
+// Só é carregada por IntKernels quando o módulo jdk.incubator.vector está presente.
+final class VectorIntKernels {
+
+  private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+  private static final int LANES = SPECIES.length();
+
+  // Permutação que inverte as posições de um vetor
+  private static final VectorShuffle<Integer> REVERSE = SPECIES.iotaShuffle(LANES - 1, -1, true);
+
+  // Elementos somados antes de transferir as somas parciais para long: 2^15 metades de
+  // 16 bits cabem em um int mesmo depois de reduceLanes somar todas as lanes em int
+  private static final int SUM_BLOCK = 1 << 15;
+
+  private VectorIntKernels() {}
+
+  // Cada elemento é separado em (v >> 16) * 2^16 + (v & 0xFFFF), somados em lanes int
+  // sem overflow e combinados em long ao fim de cada bloco
+  static long sum(int[] a, int from, int to) {
+    long sum = 0;
+    int i = from;
+    int bound = from + SPECIES.loopBound(to - from);
+    while (i < bound) {
+      int blockEnd = (int) Math.min(bound, (long) i + SUM_BLOCK);
+      IntVector high = IntVector.zero(SPECIES);
+      IntVector low = IntVector.zero(SPECIES);
+      for (; i < blockEnd; i += LANES) {
+        IntVector v = IntVector.fromArray(SPECIES, a, i);
+        high = high.add(v.lanewise(VectorOperators.ASHR, 16));
+        low = low.add(v.and(0xFFFF));
+      }
+      sum += (high.reduceLanesToLong(VectorOperators.ADD) << 16) + low.reduceLanesToLong(VectorOperators.ADD);
+    }
+    for (; i < to; i++) sum += a[i];
+    return sum;
+  }
+
+  static int min(int[] a, int from, int to) {
+    int i = from;
+    int bound = from + SPECIES.loopBound(to - from);
+    IntVector acc = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+    for (; i < bound; i += LANES) acc = acc.min(IntVector.fromArray(SPECIES, a, i));
+    int min = acc.reduceLanes(VectorOperators.MIN);
+    for (; i < to; i++) min = Math.min(min, a[i]);
+    return min;
+  }
+
+  static int max(int[] a, int from, int to) {
+    int i = from;
+    int bound = from + SPECIES.loopBound(to - from);
+    IntVector acc = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+    for (; i < bound; i += LANES) acc = acc.max(IntVector.fromArray(SPECIES, a, i));
+    int max = acc.reduceLanes(VectorOperators.MAX);
+    for (; i < to; i++) max = Math.max(max, a[i]);
+    return max;
+  }
+
+  static int indexOf(int[] a, int from, int to, int key) {
+    int i = from;
+    int bound = from + SPECIES.loopBound(to - from);
+    for (; i < bound; i += LANES) {
+      VectorMask<Integer> m = IntVector.fromArray(SPECIES, a, i).eq(key);
+      if (m.anyTrue()) return i + m.firstTrue();
+    }
+    for (; i < to; i++) {
+      if (a[i] == key) return i;
+    }
+    return -1;
+  }
+
+  static int countEquals(int[] a, int from, int to, int key) {
+    int i = from;
+    int bound = from + SPECIES.loopBound(to - from);
+    int count = 0;
+    for (; i < bound; i += LANES) count += IntVector.fromArray(SPECIES, a, i).eq(key).trueCount();
+    for (; i < to; i++) {
+      if (a[i] == key) count++;
+    }
+    return count;
+  }
+
+  static void fill(int[] a, int from, int to, int value) {
+    int i = from;
+    int bound = from + SPECIES.loopBound(to - from);
+    IntVector v = IntVector.broadcast(SPECIES, value);
+    for (; i < bound; i += LANES) v.intoArray(a, i);
+    for (; i < to; i++) a[i] = value;
+  }
+
+  // Troca vetores inteiros das duas pontas, invertendo cada um; o meio que sobra
+  // (menos de dois vetores) é invertido no laço escalar
+  static void reverse(int[] a, int from, int to) {
+    int i = from;
+    int j = to - LANES;
+    for (; i + LANES <= j; i += LANES, j -= LANES) {
+      IntVector left = IntVector.fromArray(SPECIES, a, i);
+      IntVector right = IntVector.fromArray(SPECIES, a, j);
+      right.rearrange(REVERSE).intoArray(a, i);
+      left.rearrange(REVERSE).intoArray(a, j);
+    }
+    for (int k = j + LANES - 1; i < k; i++, k--) {
+      int tmp = a[i];
+      a[i] = a[k];
+      a[k] = tmp;
+    }
+  }
+
+  // O JDK 17 não tem compress(): vetores totalmente dentro do intervalo são copiados
+  // inteiros, vetores sem nenhum são pulados e os mistos são compactados sem desvios,
+  // escrevendo cada lane em dst[w] e avançando w só para as selecionadas (dst tem espaço
+  // para to - from elementos, então a escrita extra nunca sai do limite)
+  static int filterRange(int[] a, int from, int to, int lo, int hi, int[] dst, int off) {
+    int i = from;
+    int w = off;
+    int width = hi - lo; // lo <= v <= hi equivale a (v - lo) <= (hi - lo) sem sinal
+    int bound = from + SPECIES.loopBound(to - from);
+    for (; i < bound; i += LANES) {
+      IntVector v = IntVector.fromArray(SPECIES, a, i);
+      VectorMask<Integer> m = v.compare(VectorOperators.GE, lo).and(v.compare(VectorOperators.LE, hi));
+      if (m.allTrue()) {
+        v.intoArray(dst, w);
+        w += LANES;
+      } else if (m.anyTrue()) {
+        for (int k = i; k < i + LANES; k++) {
+          int e = a[k];
+          dst[w] = e;
+          w += Integer.compareUnsigned(e - lo, width) <= 0 ? 1 : 0;
+        }
+      }
+    }
+    for (; i < to; i++) {
+      int v = a[i];
+      if (v >= lo && v <= hi) dst[w++] = v;
+    }
+    return w - off;
+  }
+}
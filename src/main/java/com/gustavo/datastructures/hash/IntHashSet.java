@@ -0,0 +1,204 @@
+package com.gustavo.datastructures.hash;
+
+import java.util.function.IntConsumer;
+
+// Conjunto de int sem boxing com endereçamento aberto
+//
+// Tabela de tamanho potência de 2 com sondagem linear e fator de carga máximo de 0.5.
+// A chave 0 marca posições vazias, então o próprio 0 é guardado à parte em `hasZero`.
+// Remoções usam backward-shift: os elementos seguintes do mesmo cluster são puxados
+// para trás, sem tombstones, então buscas nunca degradam após muitas remoções.
+public class IntHashSet {
+
+  private static final int MIN_CAPACITY = 8;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private int[] keys;
+  private int mask;
+  private int assigned = 0; // Posições ocupadas na tabela (sem contar o 0)
+  private int resizeAt;
+  private boolean hasZero = false;
+
+  public IntHashSet() {
+    this(MIN_CAPACITY / 2);
+  }
+
+  // Dimensiona a tabela para `expectedSize` elementos sem rehash
+  public IntHashSet(int expectedSize) {
+    if (expectedSize < 0) throw new IllegalArgumentException("Illegal Capacity: " + expectedSize);
+    allocate(tableSize(expectedSize));
+  }
+
+  // Cria um conjunto com os elementos distintos do array
+  public IntHashSet(int[] elems) {
+    this(elems == null ? 0 : elems.length);
+    if (elems == null) throw new IllegalArgumentException("Array cannot be null");
+    for (int e : elems) add(e);
+  }
+
+  // Tamanho de tabela potência de 2 que mantém `expectedSize` elementos com carga <= 0.5
+  static int tableSize(int expectedSize) {
+    long needed = Math.max(MIN_CAPACITY, 2L * expectedSize);
+    if (needed > MAX_CAPACITY) throw new IllegalArgumentException("Illegal Capacity: " + expectedSize);
+    return Integer.highestOneBit((int) needed - 1) << 1;
+  }
+
+  // Espalha os bits da chave (multiplicação de Fibonacci) antes de aplicar a máscara
+  static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    mask = capacity - 1;
+    resizeAt = capacity / 2;
+  }
+
+  public int size() {
+    return assigned + (hasZero ? 1 : 0);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Adiciona o elemento, retorna false se já existia, O(1) esperado
+  public boolean add(int key) {
+    if (key == 0) {
+      if (hasZero) return false;
+      hasZero = true;
+      return true;
+    }
+    int i = mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != 0) {
+      if (k == key) return false;
+      i = (i + 1) & mask;
+    }
+    checkRoom();
+    keys[i] = key;
+    if (++assigned >= resizeAt) rehash(keys.length << 1);
+    return true;
+  }
+
+  // Adiciona todos os elementos do array, retorna quantos eram novos
+  public int addAll(int[] elems) {
+    if (elems == null) throw new IllegalArgumentException("Array cannot be null");
+    int added = 0;
+    for (int e : elems) if (add(e)) added++;
+    return added;
+  }
+
+  // Verifica se o elemento está no conjunto, O(1) esperado
+  public boolean contains(int key) {
+    if (key == 0) return hasZero;
+    int i = mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != 0) {
+      if (k == key) return true;
+      i = (i + 1) & mask;
+    }
+    return false;
+  }
+
+  // Remove o elemento, retorna false se não existia, O(1) esperado
+  public boolean remove(int key) {
+    if (key == 0) {
+      boolean had = hasZero;
+      hasZero = false;
+      return had;
+    }
+    int i = mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != 0) {
+      if (k == key) {
+        shiftBack(i);
+        assigned--;
+        return true;
+      }
+      i = (i + 1) & mask;
+    }
+    return false;
+  }
+
+  // Esvazia a posição `i` puxando para trás os elementos do cluster que podem ocupá-la
+  private void shiftBack(int i) {
+    int j = i;
+    while (true) {
+      j = (j + 1) & mask;
+      int k = keys[j];
+      if (k == 0) break;
+      int ideal = mix(k) & mask;
+      // Move se a posição ideal de k não está ciclicamente em (i, j]
+      if (((j - ideal) & mask) >= ((j - i) & mask)) {
+        keys[i] = k;
+        i = j;
+      }
+    }
+    keys[i] = 0;
+  }
+
+  // Falha antes de inserir quando a tabela já tem a capacidade máxima e precisaria dobrar:
+  // keys.length << 1 estouraria para Integer.MIN_VALUE e passaria pela verificação do rehash
+  private void checkRoom() {
+    if (assigned + 1 >= resizeAt && keys.length >= MAX_CAPACITY) throw new IllegalStateException("Set too large");
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > MAX_CAPACITY) throw new IllegalStateException("Set too large");
+    int[] old = keys;
+    allocate(capacity);
+    for (int k : old) {
+      if (k == 0) continue;
+      int i = mix(k) & mask;
+      while (keys[i] != 0) i = (i + 1) & mask;
+      keys[i] = k;
+    }
+  }
+
+  // Remove todos os elementos mantendo a tabela alocada, O(capacidade)
+  public void clear() {
+    java.util.Arrays.fill(keys, 0);
+    assigned = 0;
+    hasZero = false;
+  }
+
+  // Executa a ação para cada elemento, em ordem arbitrária
+  public void forEach(IntConsumer action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    if (hasZero) action.accept(0);
+    for (int k : keys) if (k != 0) action.accept(k);
+  }
+
+  // Copia os elementos para um novo array, em ordem arbitrária
+  public int[] toArray() {
+    int[] out = new int[size()];
+    int n = 0;
+    if (hasZero) out[n++] = 0;
+    for (int k : keys) if (k != 0) out[n++] = k;
+    return out;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{ ");
+    forEach(k -> {
+      if (sb.length() > 2) sb.append(", ");
+      sb.append(k);
+    });
+    return sb.append(" }").toString();
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    IntHashSet set = new IntHashSet(new int[] {3, 7, 3, 0, -2});
+
+    System.out.println(set.size()); // 4
+    System.out.println(set.contains(7)); // true
+
+    set.remove(7);
+    System.out.println(set.contains(7)); // false
+    System.out.println(set);
+  }
+}
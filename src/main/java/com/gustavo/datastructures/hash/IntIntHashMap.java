@@ -0,0 +1,227 @@
+package com.gustavo.datastructures.hash;
+
+// Mapa int -> int sem boxing com endereçamento aberto
+//
+// Mesma organização do IntHashSet: chaves e valores em arrays paralelos, tabela potência
+// de 2 com sondagem linear, carga máxima de 0.5 e remoção por backward-shift. A chave 0
+// é guardada à parte. Consultas a chaves ausentes retornam 0 (use containsKey ou
+// getOrDefault para distinguir).
+public class IntIntHashMap {
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private int[] keys;
+  private int[] values;
+  private int mask;
+  private int assigned = 0;
+  private int resizeAt;
+  private boolean hasZero = false;
+  private int zeroValue = 0;
+
+  // Recebe cada par chave/valor, ver forEach
+  public interface IntIntConsumer {
+    void accept(int key, int value);
+  }
+
+  public IntIntHashMap() {
+    this(4);
+  }
+
+  // Dimensiona a tabela para `expectedSize` chaves sem rehash
+  public IntIntHashMap(int expectedSize) {
+    if (expectedSize < 0) throw new IllegalArgumentException("Illegal Capacity: " + expectedSize);
+    allocate(IntHashSet.tableSize(expectedSize));
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+    resizeAt = capacity / 2;
+  }
+
+  public int size() {
+    return assigned + (hasZero ? 1 : 0);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Posição da chave (diferente de 0) na tabela, ou -1
+  private int slot(int key) {
+    int i = IntHashSet.mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != 0) {
+      if (k == key) return i;
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  // Verifica se a chave existe, O(1) esperado
+  public boolean containsKey(int key) {
+    return key == 0 ? hasZero : slot(key) >= 0;
+  }
+
+  // Retorna o valor da chave ou 0 se ausente, O(1) esperado
+  public int get(int key) {
+    return getOrDefault(key, 0);
+  }
+
+  // Retorna o valor da chave ou `defaultValue` se ausente, O(1) esperado
+  public int getOrDefault(int key, int defaultValue) {
+    if (key == 0) return hasZero ? zeroValue : defaultValue;
+    int i = slot(key);
+    return i >= 0 ? values[i] : defaultValue;
+  }
+
+  // Associa o valor à chave, retorna o valor anterior ou 0, O(1) esperado
+  public int put(int key, int value) {
+    if (key == 0) {
+      int old = zeroValue;
+      hasZero = true;
+      zeroValue = value;
+      return old;
+    }
+    int i = IntHashSet.mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != 0) {
+      if (k == key) {
+        int old = values[i];
+        values[i] = value;
+        return old;
+      }
+      i = (i + 1) & mask;
+    }
+    checkRoom();
+    keys[i] = key;
+    values[i] = value;
+    if (++assigned >= resizeAt) rehash(keys.length << 1);
+    return 0;
+  }
+
+  // Soma `delta` ao valor da chave (ausente conta como 0) e retorna o novo valor, O(1) esperado
+  // Útil para contadores: uma única sondagem em vez de get + put
+  public int addTo(int key, int delta) {
+    if (key == 0) {
+      if (!hasZero) zeroValue = 0;
+      hasZero = true;
+      return zeroValue += delta;
+    }
+    int i = IntHashSet.mix(key) & mask;
+    int k;
+    while ((k = keys[i]) != 0) {
+      if (k == key) return values[i] += delta;
+      i = (i + 1) & mask;
+    }
+    checkRoom();
+    keys[i] = key;
+    values[i] = delta;
+    if (++assigned >= resizeAt) rehash(keys.length << 1);
+    return delta;
+  }
+
+  // Remove a chave, retorna false se não existia, O(1) esperado
+  public boolean remove(int key) {
+    if (key == 0) {
+      boolean had = hasZero;
+      hasZero = false;
+      zeroValue = 0;
+      return had;
+    }
+    int i = slot(key);
+    if (i < 0) return false;
+    shiftBack(i);
+    assigned--;
+    return true;
+  }
+
+  // Esvazia a posição `i` puxando para trás os pares do cluster que podem ocupá-la
+  private void shiftBack(int i) {
+    int j = i;
+    while (true) {
+      j = (j + 1) & mask;
+      int k = keys[j];
+      if (k == 0) break;
+      int ideal = IntHashSet.mix(k) & mask;
+      if (((j - ideal) & mask) >= ((j - i) & mask)) {
+        keys[i] = k;
+        values[i] = values[j];
+        i = j;
+      }
+    }
+    keys[i] = 0;
+    values[i] = 0;
+  }
+
+  // Falha antes de inserir quando a tabela já tem a capacidade máxima e precisaria dobrar:
+  // keys.length << 1 estouraria para Integer.MIN_VALUE e passaria pela verificação do rehash
+  private void checkRoom() {
+    if (assigned + 1 >= resizeAt && keys.length >= MAX_CAPACITY) throw new IllegalStateException("Map too large");
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > MAX_CAPACITY) throw new IllegalStateException("Map too large");
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(capacity);
+    for (int j = 0; j < oldKeys.length; j++) {
+      int k = oldKeys[j];
+      if (k == 0) continue;
+      int i = IntHashSet.mix(k) & mask;
+      while (keys[i] != 0) i = (i + 1) & mask;
+      keys[i] = k;
+      values[i] = oldValues[j];
+    }
+  }
+
+  // Remove todas as chaves mantendo a tabela alocada, O(capacidade)
+  public void clear() {
+    java.util.Arrays.fill(keys, 0);
+    java.util.Arrays.fill(values, 0);
+    assigned = 0;
+    hasZero = false;
+    zeroValue = 0;
+  }
+
+  // Executa a ação para cada par, em ordem arbitrária
+  public void forEach(IntIntConsumer action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    if (hasZero) action.accept(0, zeroValue);
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) action.accept(keys[i], values[i]);
+    }
+  }
+
+  // Copia as chaves para um novo array, em ordem arbitrária
+  public int[] keys() {
+    int[] out = new int[size()];
+    int n = 0;
+    if (hasZero) out[n++] = 0;
+    for (int k : keys) if (k != 0) out[n++] = k;
+    return out;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{ ");
+    forEach((k, v) -> {
+      if (sb.length() > 2) sb.append(", ");
+      sb.append(k).append('=').append(v);
+    });
+    return sb.append(" }").toString();
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    IntIntHashMap counts = new IntIntHashMap();
+    for (int v : new int[] {3, 7, 3, 0, 3}) counts.addTo(v, 1);
+
+    System.out.println(counts.get(3)); // 3
+    System.out.println(counts.getOrDefault(5, -1)); // -1
+
+    counts.remove(3);
+    System.out.println(counts);
+  }
+}
@@ -0,0 +1,136 @@
+package com.gustavo.datastructures.lrucache;
+
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+
+// Cache LRU limitado: ao exceder a capacidade, descarta a chave usada há mais tempo
+//
+// A ordem de uso é mantida por uma DoublyLinkedList com índice hash (o head é a chave
+// menos recente), então get/put/remove são O(1). Chaves e valores não podem ser null.
+public class LruCache<K, V> {
+
+  private final int capacity;
+  private final HashMap<K, V> values;
+  private final DoublyLinkedList<K> order = new DoublyLinkedList<K>();
+  private final BiConsumer<? super K, ? super V> onEvict;
+
+  private long hits, misses, evictions;
+
+  public LruCache(int capacity) {
+    this(capacity, null);
+  }
+
+  // `onEvict` é chamado com a chave e o valor descartados por falta de capacidade
+  public LruCache(int capacity, BiConsumer<? super K, ? super V> onEvict) {
+    if (capacity <= 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    this.capacity = capacity;
+    this.values = new HashMap<K, V>();
+    this.onEvict = onEvict;
+    order.enableHashIndex();
+  }
+
+  // Retorna o valor da chave e a marca como a mais recente, ou null se não existir, O(1)
+  public V get(K key) {
+    if (key == null) throw new IllegalArgumentException("Key cannot be null");
+    V value = values.get(key);
+    if (value == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    order.moveToBack(key);
+    return value;
+  }
+
+  // Associa o valor à chave, marcando-a como a mais recente; retorna o valor anterior, O(1)
+  public V put(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("Key cannot be null");
+    if (value == null) throw new IllegalArgumentException("Value cannot be null");
+    V old = values.put(key, value);
+    if (old != null) {
+      order.moveToBack(key);
+      return old;
+    }
+    order.addLast(key);
+    if (order.size() > capacity) evict();
+    return null;
+  }
+
+  // Remove a chave sem chamar o callback de descarte, O(1)
+  public V remove(K key) {
+    V old = values.remove(key);
+    if (old != null) order.remove(key);
+    return old;
+  }
+
+  // Verifica se a chave está no cache sem alterar a ordem de uso, O(1)
+  public boolean containsKey(K key) {
+    return values.containsKey(key);
+  }
+
+  // Descarta a chave menos recente
+  private void evict() {
+    K eldest = order.removeFirst();
+    V value = values.remove(eldest);
+    evictions++;
+    if (onEvict != null) onEvict.accept(eldest, value);
+  }
+
+  public void clear() {
+    values.clear();
+    order.clear();
+  }
+
+  public int size() {
+    return order.size();
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  // Contadores de acertos e faltas de get e de descartes por capacidade
+  public long hits() {
+    return hits;
+  }
+
+  public long misses() {
+    return misses;
+  }
+
+  public long evictions() {
+    return evictions;
+  }
+
+  // Fração de chamadas a get que encontraram o valor
+  public double hitRate() {
+    long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  // Zera os contadores
+  public void resetStats() {
+    hits = misses = evictions = 0;
+  }
+
+  // Chaves da menos para a mais recente
+  @Override
+  public String toString() {
+    return order.toString();
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    LruCache<String, Integer> cache =
+        new LruCache<>(2, (k, v) -> System.out.println("evicted " + k + "=" + v));
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.get("a");
+    cache.put("c", 3); // evicted b=2
+
+    System.out.println(cache); // [ a, c ]
+    System.out.println(cache.get("b")); // null
+    System.out.println(cache.hitRate()); // 0.5
+  }
+}
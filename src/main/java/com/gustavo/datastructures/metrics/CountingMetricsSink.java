@@ -0,0 +1,87 @@
+package com.gustavo.datastructures.metrics;
+
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Sink que acumula totais em contadores LongAdder, seguro para várias threads
+public class CountingMetricsSink implements MetricsSink {
+
+  private final LongAdder resizes = new LongAdder();
+  private final LongAdder bytesCopied = new LongAdder();
+  private final LongAdder shifts = new LongAdder();
+  private final LongAdder elementsShifted = new LongAdder();
+  private final LongAdder traversals = new LongAdder();
+  private final LongAdder nodesTraversed = new LongAdder();
+
+  @Override
+  public void onResize(String structure, int oldCapacity, int newCapacity, long bytes) {
+    resizes.increment();
+    bytesCopied.add(bytes);
+  }
+
+  @Override
+  public void onShift(String structure, int elements) {
+    shifts.increment();
+    elementsShifted.add(elements);
+  }
+
+  @Override
+  public void onTraversal(String structure, int nodes) {
+    traversals.increment();
+    nodesTraversed.add(nodes);
+  }
+
+  public long resizes() {
+    return resizes.sum();
+  }
+
+  public long bytesCopied() {
+    return bytesCopied.sum();
+  }
+
+  public long shifts() {
+    return shifts.sum();
+  }
+
+  public long elementsShifted() {
+    return elementsShifted.sum();
+  }
+
+  public long traversals() {
+    return traversals.sum();
+  }
+
+  public long nodesTraversed() {
+    return nodesTraversed.sum();
+  }
+
+  public void reset() {
+    resizes.reset();
+    bytesCopied.reset();
+    shifts.reset();
+    elementsShifted.reset();
+    traversals.reset();
+    nodesTraversed.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "resizes=" + resizes() + ", bytesCopied=" + bytesCopied()
+        + ", shifts=" + shifts() + ", elementsShifted=" + elementsShifted()
+        + ", traversals=" + traversals() + ", nodesTraversed=" + nodesTraversed();
+  }
+
+  // Exemplo de uso (execute com -Dcom.gustavo.datastructures.metrics=true)
+  public static void main(String[] args) {
+    CountingMetricsSink sink = new CountingMetricsSink();
+    Metrics.setSink(sink);
+
+    DynamicArray arr = new DynamicArray(4);
+    for (int i = 0; i < 10; i++) arr.add(i);
+    arr.removeAt(0);
+
+    System.out.println(Metrics.ENABLED); // true
+    System.out.println(sink); // resizes=2, bytesCopied=48, shifts=1, elementsShifted=9, ...
+    Metrics.setSink(null);
+  }
+}
@@ -0,0 +1,91 @@
+package com.gustavo.datastructures.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Sink que emite eventos do JDK Flight Recorder
+//
+// ResizeEvent fica habilitado por padrão em qualquer gravação; ShiftEvent e
+// TraversalEvent são muito frequentes e precisam ser habilitados na configuração
+// da gravação (ex.: jfr configure +com.gustavo.datastructures.Shift#enabled=true).
+// Sem gravação ativa, cada chamada custa apenas a verificação de isEnabled().
+public class JfrMetricsSink implements MetricsSink {
+
+  @Name("com.gustavo.datastructures.Resize")
+  @Label("Structure Resize")
+  @Category({"Data Structures"})
+  static class ResizeEvent extends Event {
+    @Label("Structure")
+    String structure;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    long bytesCopied;
+  }
+
+  @Name("com.gustavo.datastructures.Shift")
+  @Label("Element Shift")
+  @Category({"Data Structures"})
+  @Enabled(false)
+  @StackTrace(false)
+  static class ShiftEvent extends Event {
+    @Label("Structure")
+    String structure;
+
+    @Label("Elements Shifted")
+    int elements;
+  }
+
+  @Name("com.gustavo.datastructures.Traversal")
+  @Label("Node Traversal")
+  @Category({"Data Structures"})
+  @Enabled(false)
+  @StackTrace(false)
+  static class TraversalEvent extends Event {
+    @Label("Structure")
+    String structure;
+
+    @Label("Nodes Traversed")
+    int nodes;
+  }
+
+  @Override
+  public void onResize(String structure, int oldCapacity, int newCapacity, long bytesCopied) {
+    ResizeEvent event = new ResizeEvent();
+    if (!event.isEnabled()) return;
+    event.structure = structure;
+    event.oldCapacity = oldCapacity;
+    event.newCapacity = newCapacity;
+    event.bytesCopied = bytesCopied;
+    event.commit();
+  }
+
+  @Override
+  public void onShift(String structure, int elements) {
+    ShiftEvent event = new ShiftEvent();
+    if (!event.isEnabled()) return;
+    event.structure = structure;
+    event.elements = elements;
+    event.commit();
+  }
+
+  @Override
+  public void onTraversal(String structure, int nodes) {
+    TraversalEvent event = new TraversalEvent();
+    if (!event.isEnabled()) return;
+    event.structure = structure;
+    event.nodes = nodes;
+    event.commit();
+  }
+}
@@ -0,0 +1,37 @@
+package com.gustavo.datastructures.metrics;
+
+// Ponto de entrada da instrumentação
+//
+// A instrumentação é habilitada na inicialização da JVM com
+// -Dcom.gustavo.datastructures.metrics=true. ENABLED é uma constante: com ela false
+// o JIT remove os trechos `if (Metrics.ENABLED) ...` dos caminhos quentes, sem custo.
+// Com ela true as medições vão para o sink configurado (NOOP até setSink ser chamado).
+public final class Metrics {
+
+  public static final boolean ENABLED = Boolean.getBoolean("com.gustavo.datastructures.metrics");
+
+  private static volatile MetricsSink sink = MetricsSink.NOOP;
+
+  private Metrics() {}
+
+  public static MetricsSink sink() {
+    return sink;
+  }
+
+  // Troca o sink; null restaura o NOOP
+  public static void setSink(MetricsSink newSink) {
+    sink = newSink == null ? MetricsSink.NOOP : newSink;
+  }
+
+  public static void resize(String structure, int oldCapacity, int newCapacity, long bytesCopied) {
+    sink.onResize(structure, oldCapacity, newCapacity, bytesCopied);
+  }
+
+  public static void shift(String structure, int elements) {
+    if (elements > 0) sink.onShift(structure, elements);
+  }
+
+  public static void traversal(String structure, int nodes) {
+    sink.onTraversal(structure, nodes);
+  }
+}
@@ -0,0 +1,20 @@
+package com.gustavo.datastructures.metrics;
+
+// Recebe as medições de custo das estruturas quando a instrumentação está habilitada
+// (ver Metrics). `structure` é o nome simples da classe que gerou a medição.
+// As implementações devem ser thread-safe e baratas: são chamadas nos caminhos quentes.
+public interface MetricsSink {
+
+  // Sink padrão, não faz nada
+  MetricsSink NOOP = new MetricsSink() {};
+
+  // O array de armazenamento foi realocado de `oldCapacity` para `newCapacity`
+  // elementos, copiando `bytesCopied` bytes
+  default void onResize(String structure, int oldCapacity, int newCapacity, long bytesCopied) {}
+
+  // Uma inserção ou remoção deslocou `elements` elementos
+  default void onShift(String structure, int elements) {}
+
+  // Uma operação posicional ou de busca percorreu `nodes` nodes
+  default void onTraversal(String structure, int nodes) {}
+}
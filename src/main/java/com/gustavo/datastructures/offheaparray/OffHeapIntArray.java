@@ -0,0 +1,343 @@
+package com.gustavo.datastructures.offheaparray;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// Array dinâmico de int armazenado fora do heap, em segmentos de ByteBuffer direto
+// O GC só enxerga os objetos dos segmentos, não os elementos, e o índice é long
+// (sem o limite de 2^31 elementos de um int[]). Crescer aloca um novo segmento,
+// sem copiar os dados existentes. Libere a memória com close().
+public class OffHeapIntArray implements Iterable<Integer>, AutoCloseable {
+
+  private static final int SEGMENT_SHIFT = 20; // 2^20 ints = 4 MiB por segmento
+  private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+  private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private ByteBuffer[] buffers; // Mantidos para liberar a memória em close()
+  private IntBuffer[] segments;
+  private int segmentCount = 0;
+  private long len = 0;
+
+  // Iniciar o array com um segmento
+  public OffHeapIntArray() {
+    this(SEGMENT_SIZE);
+  }
+
+  // Iniciar o array reservando espaço para `capacity` elementos
+  public OffHeapIntArray(long capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    buffers = new ByteBuffer[4];
+    segments = new IntBuffer[4];
+    ensureCapacity(Math.max(capacity, 1));
+  }
+
+  // Retorna o tamanho do array
+  public long size() {
+    return len;
+  }
+
+  // Retorna true/false caso o array esteja vazio
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  // Retorna a capacidade atual (sempre múltipla do tamanho do segmento)
+  public long capacity() {
+    return (long) segmentCount << SEGMENT_SHIFT;
+  }
+
+  // Garante espaço para `minCapacity` elementos alocando novos segmentos, sem cópia
+  public void ensureCapacity(long minCapacity) {
+    checkOpen();
+    while (capacity() < minCapacity) addSegment();
+  }
+
+  private void addSegment() {
+    if (segmentCount == segments.length) {
+      buffers = java.util.Arrays.copyOf(buffers, segmentCount * 2);
+      segments = java.util.Arrays.copyOf(segments, segmentCount * 2);
+    }
+    ByteBuffer buf = ByteBuffer.allocateDirect(SEGMENT_SIZE * Integer.BYTES).order(ByteOrder.nativeOrder());
+    buffers[segmentCount] = buf;
+    segments[segmentCount] = buf.asIntBuffer();
+    segmentCount++;
+  }
+
+  public int get(long index) {
+    checkOpen();
+    if (index >= 0 && index < len) {
+      return read(index);
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  public void set(long index, int elem) {
+    checkOpen();
+    if (index >= 0 && index < len) {
+      write(index, elem);
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  // Acesso sem verificação de limites
+  private int read(long index) {
+    return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) index & SEGMENT_MASK);
+  }
+
+  private void write(long index, int elem) {
+    segments[(int) (index >>> SEGMENT_SHIFT)].put((int) index & SEGMENT_MASK, elem);
+  }
+
+  // Adicionar um elemento no array, O(1)
+  public void add(int elem) {
+    checkOpen();
+    if (len == capacity()) addSegment();
+    write(len++, elem);
+  }
+
+  // Remove o elemento em um índice específico
+  // Método com O(n), já que desloca os elementos seguintes
+  public void removeAt(long rm_index) {
+    checkOpen();
+    if (rm_index < 0 || rm_index >= len) throw new IndexOutOfBoundsException("Index out of range.");
+    for (long i = rm_index; i < len - 1; i++) write(i, read(i + 1));
+    --len;
+  }
+
+  // Pesquisa e remove um elemento se encontrado
+  // Método com O(n), já que percorre todo o array para buscar elemento
+  public boolean remove(int elem) {
+    long index = indexOf(elem);
+    if (index < 0) return false;
+    removeAt(index);
+    return true;
+  }
+
+  // Retorna o índice da primeira ocorrência ou -1, O(n)
+  public long indexOf(int elem) {
+    checkOpen();
+    for (long i = 0; i < len; i++) {
+      if (read(i) == elem) return i;
+    }
+    return -1;
+  }
+
+  // Reverte os conteúdos do array
+  public void reverse() {
+    checkOpen();
+    for (long i = 0, j = len - 1; i < j; i++, j--) swap(i, j);
+  }
+
+  // Executa binary search no array,
+  // Método com O(log(n))
+  // Array precisa estar ordenado
+  // Se não encontrado retorna onde o elemento deveria ser inserido
+  public long binarySearch(int key) {
+    checkOpen();
+    long lo = 0, hi = len - 1;
+    while (lo <= hi) {
+      long mid = (lo + hi) >>> 1;
+      int v = read(mid);
+      if (v < key) lo = mid + 1;
+      else if (v > key) hi = mid - 1;
+      else return mid;
+    }
+    return lo;
+  }
+
+  // Ordena o array no próprio armazenamento off-heap (introsort), O(n log(n))
+  public void sort() {
+    checkOpen();
+    if (len > 1) introSort(0, len - 1, 2 * (64 - Long.numberOfLeadingZeros(len)));
+  }
+
+  private void introSort(long lo, long hi, int depth) {
+    while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+      if (depth-- == 0) {
+        heapSort(lo, hi);
+        return;
+      }
+      long p = partition(lo, hi);
+      // Recursão no lado menor para limitar a pilha a O(log(n))
+      if (p - lo < hi - p) {
+        introSort(lo, p, depth);
+        lo = p + 1;
+      } else {
+        introSort(p + 1, hi, depth);
+        hi = p;
+      }
+    }
+    insertionSort(lo, hi);
+  }
+
+  // Partição de Hoare com pivô mediana de três
+  private long partition(long lo, long hi) {
+    long mid = (lo + hi) >>> 1;
+    if (read(mid) < read(lo)) swap(mid, lo);
+    if (read(hi) < read(lo)) swap(hi, lo);
+    if (read(hi) < read(mid)) swap(hi, mid);
+    int pivot = read(mid);
+    long i = lo - 1, j = hi + 1;
+    while (true) {
+      do i++; while (read(i) < pivot);
+      do j--; while (read(j) > pivot);
+      if (i >= j) return j;
+      swap(i, j);
+    }
+  }
+
+  private void insertionSort(long lo, long hi) {
+    for (long i = lo + 1; i <= hi; i++) {
+      int v = read(i);
+      long j = i - 1;
+      while (j >= lo && read(j) > v) {
+        write(j + 1, read(j));
+        j--;
+      }
+      write(j + 1, v);
+    }
+  }
+
+  private void heapSort(long lo, long hi) {
+    long n = hi - lo + 1;
+    for (long i = n / 2 - 1; i >= 0; i--) siftDown(lo, i, n);
+    for (long end = n - 1; end > 0; end--) {
+      swap(lo, lo + end);
+      siftDown(lo, 0, end);
+    }
+  }
+
+  private void siftDown(long base, long i, long n) {
+    while (true) {
+      long child = 2 * i + 1;
+      if (child >= n) return;
+      if (child + 1 < n && read(base + child + 1) > read(base + child)) child++;
+      if (read(base + i) >= read(base + child)) return;
+      swap(base + i, base + child);
+      i = child;
+    }
+  }
+
+  private void swap(long i, long j) {
+    int tmp = read(i);
+    write(i, read(j));
+    write(j, tmp);
+  }
+
+  // Aplica a ação em cada elemento sem boxing, O(n); nome distinto de Iterable.forEach
+  public void forEachInt(IntConsumer action) {
+    checkOpen();
+    for (long i = 0; i < len; i++) action.accept(read(i));
+  }
+
+  // Stream primitivo sobre os elementos, divisível para streams paralelos
+  public IntStream stream() {
+    checkOpen();
+    return LongStream.range(0, len).mapToInt(this::read);
+  }
+
+  // Iterador primitivo, use nextInt() para evitar boxing
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    checkOpen();
+    return new PrimitiveIterator.OfInt() {
+      long index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < len;
+      }
+
+      @Override
+      public int nextInt() {
+        if (index >= len) throw new NoSuchElementException();
+        return read(index++);
+      }
+    };
+  }
+
+  // Libera a memória nativa imediatamente; o array não pode mais ser usado
+  @Override
+  public void close() {
+    if (segments == null) return;
+    for (int i = 0; i < segmentCount; i++) Cleaner.free(buffers[i]);
+    buffers = null;
+    segments = null;
+    segmentCount = 0;
+    len = 0;
+  }
+
+  private void checkOpen() {
+    if (segments == null) throw new IllegalStateException("Array is closed");
+  }
+
+  @Override
+  public String toString() {
+    if (segments == null) return "[closed]";
+    if (len == 0) return "[]";
+    StringBuilder sb = new StringBuilder().append('[');
+    for (long i = 0; i < len - 1; i++) sb.append(read(i)).append(", ");
+    return sb.append(read(len - 1)).append(']').toString();
+  }
+
+  // Libera ByteBuffers diretos via sun.misc.Unsafe.invokeCleaner quando disponível;
+  // caso contrário a memória é liberada quando o GC coletar o buffer
+  private static final class Cleaner {
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+      Object unsafe = null;
+      Method invokeCleaner = null;
+      try {
+        Class<?> cls = Class.forName("sun.misc.Unsafe");
+        Field f = cls.getDeclaredField("theUnsafe");
+        f.setAccessible(true);
+        unsafe = f.get(null);
+        invokeCleaner = cls.getMethod("invokeCleaner", ByteBuffer.class);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        unsafe = null;
+        invokeCleaner = null;
+      }
+      UNSAFE = unsafe;
+      INVOKE_CLEANER = invokeCleaner;
+    }
+
+    static void free(ByteBuffer buf) {
+      if (INVOKE_CLEANER == null) return;
+      try {
+        INVOKE_CLEANER.invoke(UNSAFE, buf);
+      } catch (ReflectiveOperationException e) {
+        // Mantém a liberação pelo GC
+      }
+    }
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) {
+    try (OffHeapIntArray ar = new OffHeapIntArray()) {
+      ar.add(3);
+      ar.add(7);
+      ar.add(6);
+      ar.add(-2);
+
+      ar.sort();
+
+      for (long i = 0; i < ar.size(); i++) System.out.println(ar.get(i));
+
+      System.out.println(ar);
+    }
+  }
+}
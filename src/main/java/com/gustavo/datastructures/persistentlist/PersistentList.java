@@ -0,0 +1,398 @@
+package com.gustavo.datastructures.persistentlist;
+
+import com.gustavo.datastructures.util.Appendables;
+import com.gustavo.datastructures.util.LinkedSpliterator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Lista ligada persistente e imutável (cons-list)
+//
+// Cada instância é um node: o primeiro elemento mais a lista restante. Nenhuma operação
+// altera uma lista existente; prepend e tail são O(1) e a nova versão compartilha todos
+// os nodes da anterior. Operações no índice i copiam apenas os i primeiros nodes e
+// reaproveitam o restante. Como todos os campos são final, qualquer versão pode ser
+// entregue a outras threads sem cópia e sem locks.
+//
+// Para construir listas grandes em ordem use builder(), que acumula os elementos e cria
+// os nodes de uma vez, do último para o primeiro.
+public final class PersistentList<T> implements Iterable<T> {
+
+  private static final PersistentList<?> EMPTY = new PersistentList<>(null, null, 0);
+
+  private final T head;
+  private final PersistentList<T> tail;
+  private final int size; // Tamanho guardado em cada node, O(1)
+
+  private PersistentList(T head, PersistentList<T> tail, int size) {
+    this.head = head;
+    this.tail = tail;
+    this.size = size;
+  }
+
+  // Lista vazia, compartilhada por todas as listas
+  @SuppressWarnings("unchecked")
+  public static <T> PersistentList<T> empty() {
+    return (PersistentList<T>) EMPTY;
+  }
+
+  // Lista com os elementos na ordem dada, O(n)
+  // "varargs": prependAll só lê o array e nunca o expõe, então repassá-lo é seguro
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <T> PersistentList<T> of(T... elems) {
+    if (elems == null) throw new IllegalArgumentException("Array cannot be null");
+    return prependAll(elems, elems.length, empty());
+  }
+
+  // Lista com os elementos de `source` na ordem de iteração, O(n)
+  @SuppressWarnings("unchecked")
+  public static <T> PersistentList<T> copyOf(Iterable<? extends T> source) {
+    if (source == null) throw new IllegalArgumentException("Source cannot be null");
+    if (source instanceof PersistentList) return (PersistentList<T>) source;
+    Builder<T> builder = new Builder<>();
+    for (T elem : source) builder.add(elem);
+    return builder.build();
+  }
+
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  // Cria os nodes de a[0..n) sobre `rest`, do último para o primeiro, O(n)
+  @SuppressWarnings("unchecked")
+  private static <T> PersistentList<T> prependAll(Object[] a, int n, PersistentList<T> rest) {
+    PersistentList<T> list = rest;
+    for (int i = n - 1; i >= 0; i--) list = new PersistentList<>((T) a[i], list, list.size + 1);
+    return list;
+  }
+
+  // Retorna o tamanho da lista, O(1)
+  public int size() {
+    return size;
+  }
+
+  // Retorna se a lista está vazia
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  // Nova lista com `elem` no início, compartilhando esta, O(1)
+  public PersistentList<T> prepend(T elem) {
+    return new PersistentList<>(elem, this, size + 1);
+  }
+
+  // Primeiro valor da lista, O(1)
+  public T head() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return head;
+  }
+
+  // Lista sem o primeiro valor, compartilhada com esta, O(1)
+  public PersistentList<T> tail() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return tail;
+  }
+
+  // Último valor da lista, O(n)
+  public T last() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    PersistentList<T> trav = this;
+    while (trav.size > 1) trav = trav.tail;
+    return trav.head;
+  }
+
+  // Retorna o valor em um índice particular, O(index)
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    return drop(index).head;
+  }
+
+  // Lista sem os `n` primeiros valores, compartilhada com esta, O(n)
+  public PersistentList<T> drop(int n) {
+    if (n < 0) throw new IllegalArgumentException("Illegal Count: " + n);
+    PersistentList<T> trav = this;
+    for (int i = Math.min(n, size); i > 0; i--) trav = trav.tail;
+    return trav;
+  }
+
+  // Nova lista com `elem` no final; copia todos os nodes, O(n)
+  public PersistentList<T> append(T elem) {
+    return insert(size, elem);
+  }
+
+  // Nova lista com `data` no índice; copia os `index` primeiros nodes, O(index)
+  public PersistentList<T> addAt(int index, T data) throws Exception {
+    if (index < 0 || index > size) {
+      throw new Exception("Illegal Index");
+    }
+    return insert(index, data);
+  }
+
+  private PersistentList<T> insert(int index, T data) {
+    Object[] prefix = new Object[index];
+    PersistentList<T> trav = this;
+    for (int i = 0; i < index; i++, trav = trav.tail) prefix[i] = trav.head;
+    return prependAll(prefix, index, trav.prepend(data));
+  }
+
+  // Nova lista sem o índice; copia os `index` primeiros nodes, O(index)
+  public PersistentList<T> removeAt(int index) {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException();
+    }
+    Object[] prefix = new Object[index];
+    PersistentList<T> trav = this;
+    for (int i = 0; i < index; i++, trav = trav.tail) prefix[i] = trav.head;
+    return prependAll(prefix, index, trav.tail);
+  }
+
+  // Nova lista sem a primeira ocorrência do valor, O(n)
+  // Retorna esta mesma lista se o valor não existir
+  public PersistentList<T> remove(Object obj) {
+    int index = indexOf(obj);
+    return index < 0 ? this : removeAt(index);
+  }
+
+  // Nova lista com o valor do índice substituído; copia os nodes até o índice, O(index)
+  public PersistentList<T> set(int index, T data) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    Object[] prefix = new Object[index];
+    PersistentList<T> trav = this;
+    for (int i = 0; i < index; i++, trav = trav.tail) prefix[i] = trav.head;
+    return prependAll(prefix, index, trav.tail.prepend(data));
+  }
+
+  // Nova lista com os elementos na ordem inversa, O(n)
+  public PersistentList<T> reverse() {
+    PersistentList<T> reversed = empty();
+    for (PersistentList<T> trav = this; trav.size > 0; trav = trav.tail) reversed = reversed.prepend(trav.head);
+    return reversed;
+  }
+
+  // Encontra o índice de um valor particular na lista, O(n)
+  public int indexOf(Object obj) {
+    int index = 0;
+    PersistentList<T> trav = this;
+
+    if (obj == null) {
+      for (; trav.size > 0; trav = trav.tail, index++) {
+        if (trav.head == null) {
+          return index;
+        }
+      }
+    } else {
+      for (; trav.size > 0; trav = trav.tail, index++) {
+        if (obj.equals(trav.head)) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+
+  // Verifica se um valor está contido na lista
+  public boolean contains(Object obj) {
+    return indexOf(obj) != -1;
+  }
+
+  // Copia os elementos para um array na ordem da lista, O(n)
+  public Object[] toArray() {
+    Object[] a = new Object[size];
+    int i = 0;
+    for (PersistentList<T> trav = this; trav.size > 0; trav = trav.tail) a[i++] = trav.head;
+    return a;
+  }
+
+  // Nenhuma modificação é possível, então o iterator não precisa ser fail-fast
+  @Override
+  public java.util.Iterator<T> iterator() {
+    return new java.util.Iterator<T>() {
+      private PersistentList<T> trav = PersistentList.this;
+
+      @Override
+      public boolean hasNext() {
+        return trav.size > 0;
+      }
+
+      @Override
+      public T next() {
+        if (trav.size == 0) throw new NoSuchElementException();
+        T data = trav.head;
+        trav = trav.tail;
+        return data;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  // Percorre a lista diretamente pelos nodes, sem criar um iterator, O(n)
+  @Override
+  public void forEach(Consumer<? super T> action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    for (PersistentList<T> trav = this; trav.size > 0; trav = trav.tail) action.accept(trav.head);
+  }
+
+  // Spliterator em lotes crescentes, como o de SinglyLinkedList; a lista nunca muda,
+  // então modCount é sempre 0
+  @Override
+  public Spliterator<T> spliterator() {
+    return new LinkedSpliterator<T, PersistentList<T>>() {
+      @Override
+      protected PersistentList<T> head() {
+        return size > 0 ? PersistentList.this : null;
+      }
+
+      @Override
+      protected int size() {
+        return size;
+      }
+
+      @Override
+      protected int modCount() {
+        return 0;
+      }
+
+      @Override
+      protected PersistentList<T> next(PersistentList<T> node) {
+        return node.size > 1 ? node.tail : null;
+      }
+
+      @Override
+      protected T data(PersistentList<T> node) {
+        return node.head;
+      }
+    };
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, size);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append("[ ");
+    int shown = 0;
+    for (PersistentList<T> trav = this; trav.size > 0 && shown < maxElements; trav = trav.tail, shown++) {
+      if (shown > 0) out.append(", ");
+      Appendables.appendObject(out, trav.head, scratch);
+    }
+    if (shown < size) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, size - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(" ]");
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de listas grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(size, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toString(size);
+  }
+
+  // Construtor transitório: acumula elementos em um array mutável (adições no final em
+  // O(1) amortizado) e cria os nodes só em build(). Não é thread-safe; as listas
+  // produzidas são imutáveis e independentes do builder, que pode continuar sendo usado.
+  public static final class Builder<T> {
+
+    private static final int DEFAULT_CAP = 16;
+
+    private Object[] elems = new Object[DEFAULT_CAP];
+    private int len = 0;
+
+    private Builder() {}
+
+    // Adiciona um elemento no final, O(1) amortizado
+    public Builder<T> add(T elem) {
+      if (len == elems.length) elems = Arrays.copyOf(elems, elems.length << 1);
+      elems[len++] = elem;
+      return this;
+    }
+
+    public Builder<T> addAll(Iterable<? extends T> source) {
+      if (source == null) throw new IllegalArgumentException("Source cannot be null");
+      for (T elem : source) add(elem);
+      return this;
+    }
+
+    public int size() {
+      return len;
+    }
+
+    public Builder<T> clear() {
+      Arrays.fill(elems, 0, len, null);
+      len = 0;
+      return this;
+    }
+
+    // Lista com os elementos acumulados, O(n)
+    public PersistentList<T> build() {
+      return buildOnto(empty());
+    }
+
+    // Lista com os elementos acumulados seguidos de `rest`, que é compartilhada, O(n)
+    public PersistentList<T> buildOnto(PersistentList<T> rest) {
+      if (rest == null) throw new IllegalArgumentException("List cannot be null");
+      return prependAll(elems, len, rest);
+    }
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) throws Exception {
+    PersistentList<Integer> v1 = PersistentList.of(3, 7, 6);
+    PersistentList<Integer> v2 = v1.prepend(1); // compartilha todos os nodes de v1
+    PersistentList<Integer> v3 = v2.addAt(2, 5); // copia 2 nodes, compartilha [ 7, 6 ]
+
+    System.out.println(v1); // [ 3, 7, 6 ]
+    System.out.println(v2); // [ 1, 3, 7, 6 ]
+    System.out.println(v3); // [ 1, 3, 5, 7, 6 ]
+    System.out.println(v2.tail() == v1); // true
+
+    PersistentList.Builder<Integer> builder = PersistentList.builder();
+    for (int i = 0; i < 5; i++) builder.add(i);
+    System.out.println(builder.build().removeAt(0).size()); // 4
+  }
+}
@@ -0,0 +1,35 @@
+package com.gustavo.datastructures.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+// O que fazer enquanto put()/take() esperam por espaço ou por elementos
+public enum BackpressureStrategy {
+
+  // Espera ativa: menor latência, ocupa um núcleo
+  SPIN {
+    @Override
+    void idle(int attempt) {
+      Thread.onSpinWait();
+    }
+  },
+
+  // Cede o processador a outras threads entre tentativas
+  YIELD {
+    @Override
+    void idle(int attempt) {
+      if (attempt < 100) Thread.onSpinWait();
+      else Thread.yield();
+    }
+  },
+
+  // Estaciona a thread com espera crescente (até ~1ms): menor uso de CPU
+  PARK {
+    @Override
+    void idle(int attempt) {
+      if (attempt < 100) Thread.onSpinWait();
+      else LockSupport.parkNanos(Math.min(1L << Math.min(attempt - 100, 20), 1_000_000L));
+    }
+  };
+
+  abstract void idle(int attempt);
+}
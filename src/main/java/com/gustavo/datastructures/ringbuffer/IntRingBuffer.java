@@ -0,0 +1,102 @@
+package com.gustavo.datastructures.ringbuffer;
+
+import java.util.function.IntConsumer;
+
+// Buffer circular limitado de int, sem locks, sobre um int[] de tamanho fixo
+// (o mesmo armazenamento do StaticArray). Quando cheio, offer() retorna false
+// e put() espera segundo a BackpressureStrategy configurada.
+//
+// Variantes:
+//   spsc - um produtor e um consumidor
+//   mpsc - vários produtores e um consumidor
+//   mpmc - vários produtores e vários consumidores
+public abstract class IntRingBuffer {
+
+  // Valor de pollRaw() quando não há elemento
+  static final long EMPTY = Long.MIN_VALUE;
+
+  final int[] buffer;
+  final int mask;
+  final BackpressureStrategy strategy;
+
+  IntRingBuffer(int capacity, BackpressureStrategy strategy) {
+    if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    if (strategy == null) throw new IllegalArgumentException("Strategy cannot be null");
+    int cap = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1; // Potência de 2
+    this.buffer = new int[cap];
+    this.mask = cap - 1;
+    this.strategy = strategy;
+  }
+
+  public static IntRingBuffer spsc(int capacity, BackpressureStrategy strategy) {
+    return new SpscIntRingBuffer(capacity, strategy);
+  }
+
+  public static IntRingBuffer mpsc(int capacity, BackpressureStrategy strategy) {
+    return new MpmcIntRingBuffer(capacity, strategy, false);
+  }
+
+  public static IntRingBuffer mpmc(int capacity, BackpressureStrategy strategy) {
+    return new MpmcIntRingBuffer(capacity, strategy, true);
+  }
+
+  // Retorna a capacidade (arredondada para potência de 2; no mínimo 2 em mpsc/mpmc)
+  public int capacity() {
+    return buffer.length;
+  }
+
+  // Retorna o número aproximado de elementos
+  public abstract int size();
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Insere se houver espaço; retorna false se o buffer estiver cheio
+  public abstract boolean offer(int elem);
+
+  // Remove um elemento; retorna EMPTY se vazio
+  abstract long pollRaw();
+
+  // Insere esperando por espaço segundo a estratégia de backpressure
+  public void put(int elem) {
+    for (int attempt = 0; !offer(elem); attempt++) strategy.idle(attempt);
+  }
+
+  // Remove um elemento esperando segundo a estratégia de backpressure
+  public int take() {
+    long v;
+    for (int attempt = 0; (v = pollRaw()) == EMPTY; attempt++) strategy.idle(attempt);
+    return (int) v;
+  }
+
+  // Remove até `max` elementos passando-os ao consumidor; retorna quantos foram removidos
+  public int drain(IntConsumer consumer, int max) {
+    if (consumer == null) throw new IllegalArgumentException("Consumer cannot be null");
+    int n = 0;
+    for (long v; n < max && (v = pollRaw()) != EMPTY; n++) consumer.accept((int) v);
+    return n;
+  }
+
+  // Exemplo de uso: 4 produtores e 1 consumidor
+  public static void main(String[] args) throws InterruptedException {
+    IntRingBuffer ring = IntRingBuffer.mpsc(1024, BackpressureStrategy.YIELD);
+    int perThread = 1_000_000;
+    Thread[] producers = new Thread[4];
+    for (int t = 0; t < producers.length; t++) {
+      producers[t] = new Thread(() -> {
+        for (int i = 1; i <= perThread; i++) ring.put(i);
+      });
+      producers[t].start();
+    }
+
+    long[] sum = new long[1];
+    long received = 0;
+    while (received < (long) perThread * producers.length) {
+      received += ring.drain(v -> sum[0] += v, 256);
+    }
+    for (Thread t : producers) t.join();
+
+    System.out.println("sum=" + sum[0] + " expected=" + 4L * perThread * (perThread + 1) / 2);
+  }
+}
@@ -0,0 +1,78 @@
+package com.gustavo.datastructures.ringbuffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Fila limitada de Vyukov: cada slot tem um número de sequência que diz se ele está
+// livre para o produtor da volta atual (seq == pos) ou pronto para o consumidor
+// (seq == pos + 1). Produtores reservam posições com CAS no tail; consumidores com
+// CAS no head, ou com escrita simples quando há um único consumidor.
+//
+// A capacidade mínima é 2: com um único slot, pos + 1 (pronto para o consumidor) é
+// igual a pos + length (livre na próxima volta) e a sequência não distingue os dois.
+final class MpmcIntRingBuffer extends IntRingBuffer {
+
+  private static final VarHandle SEQ = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long[] sequences;
+  private final boolean multiConsumer;
+  private final Sequence head = new Sequence();
+  private final Sequence tail = new Sequence();
+
+  MpmcIntRingBuffer(int capacity, BackpressureStrategy strategy, boolean multiConsumer) {
+    super(capacity == 1 ? 2 : capacity, strategy);
+    this.multiConsumer = multiConsumer;
+    sequences = new long[buffer.length];
+    for (int i = 0; i < sequences.length; i++) sequences[i] = i;
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  @Override
+  public boolean offer(int elem) {
+    long pos = tail.get();
+    while (true) {
+      int idx = (int) pos & mask;
+      long dif = (long) SEQ.getAcquire(sequences, idx) - pos;
+      if (dif == 0) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          buffer[idx] = elem;
+          SEQ.setRelease(sequences, idx, pos + 1);
+          return true;
+        }
+        pos = tail.get();
+      } else if (dif < 0) {
+        return false; // Slot ainda não consumido na volta anterior: cheio
+      } else {
+        pos = tail.get(); // Outro produtor avançou
+      }
+    }
+  }
+
+  @Override
+  long pollRaw() {
+    long pos = multiConsumer ? head.get() : head.getPlain();
+    while (true) {
+      int idx = (int) pos & mask;
+      long dif = (long) SEQ.getAcquire(sequences, idx) - (pos + 1);
+      if (dif == 0) {
+        if (!multiConsumer) {
+          head.setRelease(pos + 1);
+        } else if (!head.compareAndSet(pos, pos + 1)) {
+          pos = head.get();
+          continue;
+        }
+        int v = buffer[idx];
+        SEQ.setRelease(sequences, idx, pos + buffer.length); // Libera para a próxima volta
+        return v;
+      } else if (dif < 0) {
+        return EMPTY;
+      } else {
+        pos = head.get(); // Outro consumidor avançou
+      }
+    }
+  }
+}
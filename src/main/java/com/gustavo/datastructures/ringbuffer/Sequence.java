@@ -0,0 +1,54 @@
+package com.gustavo.datastructures.ringbuffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Contador long com padding de 64 bytes de cada lado, evitando false sharing
+// entre o índice do produtor e o do consumidor (a JVM mantém os campos da
+// superclasse antes dos da subclasse). `cache` fica na mesma linha do contador
+// e é escrito apenas pela thread dona dele, então não disputa a linha do outro lado.
+class SequenceLhsPadding {
+  long p01, p02, p03, p04, p05, p06, p07;
+}
+
+class SequenceValue extends SequenceLhsPadding {
+  volatile long value;
+  long cache; // Cópia local do índice do outro lado, usada só pelo dono desta sequência
+}
+
+class SequenceRhsPadding extends SequenceValue {
+  long p09, p10, p11, p12, p13, p14, p15;
+}
+
+final class Sequence extends SequenceRhsPadding {
+
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  long get() {
+    return value;
+  }
+
+  long getAcquire() {
+    return (long) VALUE.getAcquire(this);
+  }
+
+  long getPlain() {
+    return (long) VALUE.get(this);
+  }
+
+  void setRelease(long v) {
+    VALUE.setRelease(this, v);
+  }
+
+  boolean compareAndSet(long expected, long v) {
+    return VALUE.compareAndSet(this, expected, v);
+  }
+}
@@ -0,0 +1,47 @@
+package com.gustavo.datastructures.ringbuffer;
+
+// Um produtor e um consumidor: sem CAS, cada lado guarda uma cópia local do
+// índice do outro e só relê o campo compartilhado quando a cópia indica cheio/vazio
+final class SpscIntRingBuffer extends IntRingBuffer {
+
+  // Cada cópia local fica no Sequence do próprio lado (tail.cache é o head visto pelo
+  // produtor, head.cache é o tail visto pelo consumidor), e não em campos vizinhos
+  // deste objeto, que dividiriam uma linha de cache entre as duas threads
+  private final Sequence head = new Sequence(); // Próximo índice a ler
+  private final Sequence tail = new Sequence(); // Próximo índice a escrever
+
+  SpscIntRingBuffer(int capacity, BackpressureStrategy strategy) {
+    super(capacity, strategy);
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  @Override
+  public boolean offer(int elem) {
+    Sequence tail = this.tail;
+    long t = tail.getPlain();
+    if (t - tail.cache >= buffer.length) {
+      tail.cache = head.getAcquire();
+      if (t - tail.cache >= buffer.length) return false;
+    }
+    buffer[(int) t & mask] = elem;
+    tail.setRelease(t + 1); // Publica o elemento
+    return true;
+  }
+
+  @Override
+  long pollRaw() {
+    Sequence head = this.head;
+    long h = head.getPlain();
+    if (h >= head.cache) {
+      head.cache = tail.getAcquire();
+      if (h >= head.cache) return EMPTY;
+    }
+    int v = buffer[(int) h & mask];
+    head.setRelease(h + 1); // Libera o slot para o produtor
+    return v;
+  }
+}
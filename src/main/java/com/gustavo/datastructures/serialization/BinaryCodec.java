@@ -0,0 +1,293 @@
+package com.gustavo.datastructures.serialization;
+
+import com.gustavo.datastructures.doublylinkedlist.DoublyLinkedList;
+import com.gustavo.datastructures.dynamicarray.DynamicArray;
+import com.gustavo.datastructures.singlylinkedlist.SinglyLinkedList;
+import com.gustavo.datastructures.staticarray.StaticArray;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Formato binário versionado para as quatro estruturas
+//
+// Cabeçalho: magic int 0x53444753 ("GSDS"), version byte, kind byte, encoding byte
+// DynamicArray: size int + elementos
+// StaticArray:  capacity int + size int + elementos
+// Elementos dos arrays: ints crus little-endian (RAW) ou deltas zigzag em varint
+// (DELTA_VARINT, compacto para arrays ordenados)
+// Listas: size int + para cada elemento um byte (0 = null, 1 = valor) seguido do
+// valor codificado pelo ElementSerializer
+//
+// As versões com channel leem exatamente os bytes do registro, então vários registros
+// podem ser lidos em sequência do mesmo channel. As versões com BinaryReader/BinaryWriter
+// compartilham o buffer entre registros e são mais rápidas para muitos registros pequenos
+// (o BinaryWriter precisa de flush() ao final).
+public final class BinaryCodec {
+
+  public static final int MAGIC = 0x53444753;
+  public static final int VERSION = 1;
+
+  public static final int KIND_DYNAMIC_ARRAY = 1;
+  public static final int KIND_STATIC_ARRAY = 2;
+  public static final int KIND_SINGLY_LINKED_LIST = 3;
+  public static final int KIND_DOUBLY_LINKED_LIST = 4;
+
+  public static final int ENCODING_RAW = 0;
+  public static final int ENCODING_DELTA_VARINT = 1;
+
+  private static final int CHUNK = 1 << 14;
+
+  private BinaryCodec() {}
+
+  // DynamicArray
+
+  public static void write(DynamicArray array, WritableByteChannel channel) throws IOException {
+    write(array, channel, false);
+  }
+
+  // deltaEncoding = true gera a codificação DELTA_VARINT
+  public static void write(DynamicArray array, WritableByteChannel channel, boolean deltaEncoding) throws IOException {
+    BinaryWriter out = new BinaryWriter(channel);
+    write(array, out, deltaEncoding);
+    out.flush();
+  }
+
+  public static void write(DynamicArray array, BinaryWriter out, boolean deltaEncoding) throws IOException {
+    if (array == null) throw new IllegalArgumentException("Array cannot be null");
+    if (out == null) throw new IllegalArgumentException("Writer cannot be null");
+    int encoding = deltaEncoding ? ENCODING_DELTA_VARINT : ENCODING_RAW;
+    writeHeader(out, KIND_DYNAMIC_ARRAY, encoding);
+    out.writeInt(array.size());
+    writeElements(out, encoding, array.size(), (dst, from, count) -> array.copyTo(dst, 0, from, count));
+  }
+
+  public static DynamicArray readDynamicArray(ReadableByteChannel channel) throws IOException {
+    return readDynamicArray(BinaryReader.exact(channel));
+  }
+
+  // O array cresce conforme os elementos chegam, então um tamanho corrompido no
+  // cabeçalho termina em EOFException sem alocar o tamanho declarado
+  public static DynamicArray readDynamicArray(BinaryReader in) throws IOException {
+    if (in == null) throw new IllegalArgumentException("Reader cannot be null");
+    int encoding = readHeader(in, KIND_DYNAMIC_ARRAY);
+    int size = readLength(in);
+    DynamicArray array = new DynamicArray(Math.min(size, CHUNK));
+    readElements(in, encoding, size, (src, count) -> array.addAll(src, 0, count));
+    return array;
+  }
+
+  // StaticArray
+
+  public static void write(StaticArray array, WritableByteChannel channel) throws IOException {
+    write(array, channel, false);
+  }
+
+  public static void write(StaticArray array, WritableByteChannel channel, boolean deltaEncoding) throws IOException {
+    BinaryWriter out = new BinaryWriter(channel);
+    write(array, out, deltaEncoding);
+    out.flush();
+  }
+
+  public static void write(StaticArray array, BinaryWriter out, boolean deltaEncoding) throws IOException {
+    if (array == null) throw new IllegalArgumentException("Array cannot be null");
+    if (out == null) throw new IllegalArgumentException("Writer cannot be null");
+    int encoding = deltaEncoding ? ENCODING_DELTA_VARINT : ENCODING_RAW;
+    writeHeader(out, KIND_STATIC_ARRAY, encoding);
+    out.writeInt(array.capacity());
+    out.writeInt(array.size());
+    writeElements(out, encoding, array.size(), (dst, from, count) -> array.copyTo(dst, 0, from, count));
+  }
+
+  public static StaticArray readStaticArray(ReadableByteChannel channel) throws IOException {
+    return readStaticArray(BinaryReader.exact(channel));
+  }
+
+  // A capacidade do cabeçalho não é alocada de uma vez: o armazenamento cresce com os elementos
+  public static StaticArray readStaticArray(BinaryReader in) throws IOException {
+    if (in == null) throw new IllegalArgumentException("Reader cannot be null");
+    int encoding = readHeader(in, KIND_STATIC_ARRAY);
+    in.expect(2 * Integer.BYTES);
+    int capacity = readLength(in);
+    int size = readLength(in);
+    if (size > capacity) throw new IOException("Size " + size + " exceeds capacity " + capacity);
+    StaticArray array = StaticArray.withLazyStorage(capacity);
+    readElements(in, encoding, size, (src, count) -> array.addAll(src, 0, count));
+    return array;
+  }
+
+  // SinglyLinkedList
+
+  public static <T> void write(SinglyLinkedList<T> list, ElementSerializer<? super T> serializer,
+      WritableByteChannel channel) throws IOException {
+    BinaryWriter out = new BinaryWriter(channel);
+    write(list, serializer, out);
+    out.flush();
+  }
+
+  public static <T> void write(SinglyLinkedList<T> list, ElementSerializer<? super T> serializer,
+      BinaryWriter out) throws IOException {
+    if (list == null) throw new IllegalArgumentException("List cannot be null");
+    writeList(list, list.size(), KIND_SINGLY_LINKED_LIST, serializer, out);
+  }
+
+  public static <T> SinglyLinkedList<T> readSinglyLinkedList(ElementSerializer<? extends T> serializer,
+      ReadableByteChannel channel) throws IOException {
+    return readSinglyLinkedList(serializer, BinaryReader.exact(channel));
+  }
+
+  public static <T> SinglyLinkedList<T> readSinglyLinkedList(ElementSerializer<? extends T> serializer,
+      BinaryReader in) throws IOException {
+    SinglyLinkedList<T> list = new SinglyLinkedList<>();
+    readList(KIND_SINGLY_LINKED_LIST, serializer, in, list::add);
+    return list;
+  }
+
+  // DoublyLinkedList
+
+  public static <T> void write(DoublyLinkedList<T> list, ElementSerializer<? super T> serializer,
+      WritableByteChannel channel) throws IOException {
+    BinaryWriter out = new BinaryWriter(channel);
+    write(list, serializer, out);
+    out.flush();
+  }
+
+  public static <T> void write(DoublyLinkedList<T> list, ElementSerializer<? super T> serializer,
+      BinaryWriter out) throws IOException {
+    if (list == null) throw new IllegalArgumentException("List cannot be null");
+    writeList(list, list.size(), KIND_DOUBLY_LINKED_LIST, serializer, out);
+  }
+
+  public static <T> DoublyLinkedList<T> readDoublyLinkedList(ElementSerializer<? extends T> serializer,
+      ReadableByteChannel channel) throws IOException {
+    return readDoublyLinkedList(serializer, BinaryReader.exact(channel));
+  }
+
+  public static <T> DoublyLinkedList<T> readDoublyLinkedList(ElementSerializer<? extends T> serializer,
+      BinaryReader in) throws IOException {
+    DoublyLinkedList<T> list = new DoublyLinkedList<>();
+    readList(KIND_DOUBLY_LINKED_LIST, serializer, in, list::add);
+    return list;
+  }
+
+  // Implementação comum
+
+  private interface ChunkSource {
+    void copy(int[] dst, int from, int count);
+  }
+
+  private interface ChunkSink {
+    void accept(int[] src, int count);
+  }
+
+  private interface ElementSink<T> {
+    void accept(T value);
+  }
+
+  private static void writeHeader(BinaryWriter out, int kind, int encoding) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    out.writeByte(kind);
+    out.writeByte(encoding);
+  }
+
+  private static int readHeader(BinaryReader in, int expectedKind) throws IOException {
+    in.expect(Integer.BYTES + 3 + Integer.BYTES); // Cabeçalho + primeiro tamanho
+    if (in.readInt() != MAGIC) throw new IOException("Not a serialized data structure");
+    int version = in.readByte();
+    if (version != VERSION) throw new IOException("Unsupported version: " + version);
+    int kind = in.readByte();
+    if (kind != expectedKind) throw new IOException("Unexpected kind " + kind + ", expected " + expectedKind);
+    int encoding = in.readByte();
+    if (encoding != ENCODING_RAW && encoding != ENCODING_DELTA_VARINT) {
+      throw new IOException("Unsupported encoding: " + encoding);
+    }
+    return encoding;
+  }
+
+  private static int readLength(BinaryReader in) throws IOException {
+    int len = in.readInt();
+    if (len < 0) throw new IOException("Negative length: " + len);
+    return len;
+  }
+
+  private static void writeElements(BinaryWriter out, int encoding, int size, ChunkSource source) throws IOException {
+    int[] chunk = new int[Math.min(size, CHUNK)];
+    long prev = 0;
+    for (int from = 0; from < size; from += chunk.length) {
+      int count = Math.min(chunk.length, size - from);
+      source.copy(chunk, from, count);
+      if (encoding == ENCODING_RAW) {
+        out.writeInts(chunk, 0, count);
+      } else {
+        for (int i = 0; i < count; i++) {
+          long delta = chunk[i] - prev;
+          out.writeVarLong((delta << 1) ^ (delta >> 63)); // zigzag
+          prev = chunk[i];
+        }
+      }
+    }
+  }
+
+  private static void readElements(BinaryReader in, int encoding, int size, ChunkSink sink) throws IOException {
+    int[] chunk = new int[Math.min(size, CHUNK)];
+    long prev = 0;
+    for (int from = 0; from < size; from += chunk.length) {
+      int count = Math.min(chunk.length, size - from);
+      if (encoding == ENCODING_RAW) {
+        in.readInts(chunk, 0, count);
+      } else {
+        for (int i = 0; i < count; i++) {
+          in.expect(size - from - i); // Cada varint restante ocupa pelo menos um byte
+          long zz = in.readVarLong();
+          prev += (zz >>> 1) ^ -(zz & 1);
+          chunk[i] = (int) prev;
+        }
+      }
+      sink.accept(chunk, count);
+    }
+  }
+
+  private static <T> void writeList(Iterable<T> list, int size, int kind, ElementSerializer<? super T> serializer,
+      BinaryWriter out) throws IOException {
+    if (serializer == null) throw new IllegalArgumentException("Serializer cannot be null");
+    if (out == null) throw new IllegalArgumentException("Writer cannot be null");
+    writeHeader(out, kind, ENCODING_RAW);
+    out.writeInt(size);
+    for (T value : list) {
+      if (value == null) {
+        out.writeByte(0);
+      } else {
+        out.writeByte(1);
+        serializer.write(value, out);
+      }
+    }
+  }
+
+  private static <T> void readList(int kind, ElementSerializer<? extends T> serializer, BinaryReader in,
+      ElementSink<T> sink) throws IOException {
+    if (serializer == null) throw new IllegalArgumentException("Serializer cannot be null");
+    if (in == null) throw new IllegalArgumentException("Reader cannot be null");
+    readHeader(in, kind);
+    int size = readLength(in);
+    for (int i = 0; i < size; i++) {
+      in.expect(size - i); // Pelo menos o byte de marcação de cada elemento restante
+      int tag = in.readByte();
+      if (tag == 0) sink.accept(null);
+      else if (tag == 1) sink.accept(serializer.read(in));
+      else throw new IOException("Malformed element tag: " + tag);
+    }
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) throws IOException {
+    DynamicArray ar = new DynamicArray();
+    for (int i = 0; i < 10; i++) ar.add(i * 3);
+
+    java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+    write(ar, java.nio.channels.Channels.newChannel(bytes), true);
+    DynamicArray copy = readDynamicArray(
+        java.nio.channels.Channels.newChannel(new java.io.ByteArrayInputStream(bytes.toByteArray())));
+
+    System.out.println(copy + " (" + bytes.size() + " bytes)");
+  }
+}
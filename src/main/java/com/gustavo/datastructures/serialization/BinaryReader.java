@@ -0,0 +1,128 @@
+package com.gustavo.datastructures.serialization;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+// Leitura bufferizada little-endian sobre um ReadableByteChannel
+// O channel não é fechado por esta classe.
+//
+// O buffer lê adiante até 64 KiB, então bytes após o último valor lido podem ficar nele:
+// para ler vários registros de um mesmo channel use um único BinaryReader. O modo exato
+// (exact()) nunca consome bytes além dos pedidos e dos garantidos por expect(), e pode
+// ser descartado entre registros sem perder dados.
+public class BinaryReader {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+  private final boolean exact;
+  private long fetched = 0; // Bytes já lidos do channel
+  private long allowed = 0; // No modo exato, até onde (em bytes do channel) é permitido ler
+
+  public BinaryReader(ReadableByteChannel channel) {
+    this(channel, false);
+  }
+
+  private BinaryReader(ReadableByteChannel channel, boolean exact) {
+    if (channel == null) throw new IllegalArgumentException("Channel cannot be null");
+    this.channel = channel;
+    this.exact = exact;
+    buf.limit(0);
+  }
+
+  // Leitor que não lê adiante além do necessário
+  public static BinaryReader exact(ReadableByteChannel channel) {
+    return new BinaryReader(channel, true);
+  }
+
+  // Informa que pelo menos `bytes` bytes a partir da posição atual pertencem ao registro,
+  // permitindo ao modo exato lê-los em lote; sem efeito no modo normal
+  public void expect(long bytes) {
+    if (bytes < 0) throw new IllegalArgumentException("Illegal Count: " + bytes);
+    long consumed = fetched - buf.remaining();
+    allowed = Math.max(allowed, consumed + bytes);
+  }
+
+  public int readByte() throws IOException {
+    require(1);
+    return buf.get();
+  }
+
+  public int readInt() throws IOException {
+    require(Integer.BYTES);
+    return buf.getInt();
+  }
+
+  public long readLong() throws IOException {
+    require(Long.BYTES);
+    return buf.getLong();
+  }
+
+  public int readVarInt() throws IOException {
+    int v = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = readByte();
+      v |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return v;
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  public long readVarLong() throws IOException {
+    long v = 0;
+    for (int shift = 0; shift < 70; shift += 7) {
+      int b = readByte();
+      v |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return v;
+    }
+    throw new IOException("Malformed varlong");
+  }
+
+  public void readBytes(byte[] dst, int off, int len) throws IOException {
+    expect(len);
+    while (len > 0) {
+      require(1);
+      int n = Math.min(len, buf.remaining());
+      buf.get(dst, off, n);
+      off += n;
+      len -= n;
+    }
+  }
+
+  // Lê ints crus em lote
+  public void readInts(int[] dst, int off, int len) throws IOException {
+    expect((long) len * Integer.BYTES);
+    while (len > 0) {
+      require(Integer.BYTES);
+      int n = Math.min(len, buf.remaining() / Integer.BYTES);
+      buf.asIntBuffer().get(dst, off, n);
+      buf.position(buf.position() + n * Integer.BYTES);
+      off += n;
+      len -= n;
+    }
+  }
+
+  // Garante pelo menos `bytes` bytes no buffer, lendo do channel se necessário
+  // No modo exato a leitura é limitada aos bytes pedidos ou já garantidos por expect()
+  private void require(int bytes) throws IOException {
+    if (buf.remaining() >= bytes) return;
+    buf.compact();
+    if (exact) {
+      long limit = Math.max(bytes - buf.position(), allowed - fetched);
+      buf.limit((int) Math.min(buf.capacity(), buf.position() + limit));
+    }
+    while (buf.position() < bytes) {
+      int n = channel.read(buf);
+      if (n < 0) {
+        buf.flip();
+        throw new EOFException();
+      }
+      fetched += n;
+    }
+    buf.flip();
+  }
+}
@@ -0,0 +1,89 @@
+package com.gustavo.datastructures.serialization;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+// Escrita bufferizada little-endian sobre um WritableByteChannel
+// flush() envia o buffer; o channel não é fechado por esta classe.
+public class BinaryWriter {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+  public BinaryWriter(WritableByteChannel channel) {
+    if (channel == null) throw new IllegalArgumentException("Channel cannot be null");
+    this.channel = channel;
+  }
+
+  public void writeByte(int v) throws IOException {
+    ensure(1);
+    buf.put((byte) v);
+  }
+
+  public void writeInt(int v) throws IOException {
+    ensure(Integer.BYTES);
+    buf.putInt(v);
+  }
+
+  public void writeLong(long v) throws IOException {
+    ensure(Long.BYTES);
+    buf.putLong(v);
+  }
+
+  // Inteiro sem sinal em 1 a 5 bytes (7 bits por byte)
+  public void writeVarInt(int v) throws IOException {
+    ensure(5);
+    while ((v & ~0x7F) != 0) {
+      buf.put((byte) ((v & 0x7F) | 0x80));
+      v >>>= 7;
+    }
+    buf.put((byte) v);
+  }
+
+  // Inteiro sem sinal em 1 a 10 bytes (7 bits por byte)
+  public void writeVarLong(long v) throws IOException {
+    ensure(10);
+    while ((v & ~0x7FL) != 0) {
+      buf.put((byte) ((v & 0x7F) | 0x80));
+      v >>>= 7;
+    }
+    buf.put((byte) v);
+  }
+
+  public void writeBytes(byte[] src, int off, int len) throws IOException {
+    while (len > 0) {
+      ensure(1);
+      int n = Math.min(len, buf.remaining());
+      buf.put(src, off, n);
+      off += n;
+      len -= n;
+    }
+  }
+
+  // Escreve ints crus em lote
+  public void writeInts(int[] src, int off, int len) throws IOException {
+    while (len > 0) {
+      ensure(Integer.BYTES);
+      int n = Math.min(len, buf.remaining() / Integer.BYTES);
+      buf.asIntBuffer().put(src, off, n);
+      buf.position(buf.position() + n * Integer.BYTES);
+      off += n;
+      len -= n;
+    }
+  }
+
+  // Envia todo o conteúdo bufferizado ao channel
+  public void flush() throws IOException {
+    buf.flip();
+    while (buf.hasRemaining()) channel.write(buf);
+    buf.clear();
+  }
+
+  private void ensure(int bytes) throws IOException {
+    if (buf.remaining() < bytes) flush();
+  }
+}
@@ -0,0 +1,55 @@
+package com.gustavo.datastructures.serialization;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Codifica os elementos das listas genéricas; elementos null são tratados pelo codec
+public interface ElementSerializer<T> {
+
+  void write(T value, BinaryWriter out) throws IOException;
+
+  T read(BinaryReader in) throws IOException;
+
+  ElementSerializer<Integer> INTEGER = new ElementSerializer<Integer>() {
+    @Override
+    public void write(Integer value, BinaryWriter out) throws IOException {
+      out.writeInt(value);
+    }
+
+    @Override
+    public Integer read(BinaryReader in) throws IOException {
+      return in.readInt();
+    }
+  };
+
+  ElementSerializer<Long> LONG = new ElementSerializer<Long>() {
+    @Override
+    public void write(Long value, BinaryWriter out) throws IOException {
+      out.writeLong(value);
+    }
+
+    @Override
+    public Long read(BinaryReader in) throws IOException {
+      return in.readLong();
+    }
+  };
+
+  // String UTF-8 prefixada pelo tamanho em varint
+  ElementSerializer<String> STRING = new ElementSerializer<String>() {
+    @Override
+    public void write(String value, BinaryWriter out) throws IOException {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeVarInt(bytes.length);
+      out.writeBytes(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String read(BinaryReader in) throws IOException {
+      int len = in.readVarInt();
+      if (len < 0) throw new IOException("Negative length: " + len);
+      byte[] bytes = new byte[len];
+      in.readBytes(bytes, 0, len);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  };
+}
@@ -1,11 +1,41 @@
 package com.gustavo.datastructures.singlylinkedlist;
 
+import com.gustavo.datastructures.metrics.Metrics;
+import com.gustavo.datastructures.util.Appendables;
+import com.gustavo.datastructures.util.LinkedSpliterator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public class SinglyLinkedList<T> implements Iterable<T> {
 
   private int size = 0;
+  private int modCount = 0; // Modificações estruturais, para os iterators fail-fast
   private Node<T> head = null;
   private Node<T> tail = null;
 
+  // Predecessores do tail: tailPath[pathFrom..pathTo) são nodes consecutivos e
+  // tailPath[pathTo - 1].next == tail. Vazio significa desconhecido; removeLast então
+  // percorre a lista uma vez e registra a metade final, o que torna sequências de
+  // removeLast O(1) amortizado
+  private static final int MIN_TAIL_PATH = 16;
+  private Node<T>[] tailPath = null;
+  private int pathFrom = 0;
+  private int pathTo = 0;
+
+  // Nodes removidos guardados para reuso, ligados por `next` (ver setNodePoolCapacity)
+  private Node<T> pool = null;
+  private int pooled = 0;
+  private int maxPooled = 0;
+
   // Classe interna Node para representação dos dados
   private static class Node<T> {
     private T data;
@@ -27,12 +57,13 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     Node<T> trav = head;
     while (trav != null) {
       Node<T> next = trav.next;
-      trav.next = null;
-      trav.data = null;
+      recycle(trav);
       trav = next;
     }
     head = tail = trav = null;
     size = 0;
+    modCount++;
+    resetTailPath();
   }
 
   // Retorna o tamanho da Linked List
@@ -53,23 +84,26 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   // Adiciona um node ao tail da lista, O(1)
   public void addLast(T elem) {
     if (isEmpty()) {
-      head = tail = new Node<T>(elem, null, null);
+      head = tail = newNode(elem, null);
     } else {
-      tail.next = new Node<T>(elem, tail, null);
+      pushTailPath(tail);
+      tail.next = newNode(elem, null);
       tail = tail.next;
     }
     size++;
+    modCount++;
   }
 
   // Adiciona node ao head ta lista, O(1)
   public void addFirst(T elem) {
     if (isEmpty()) {
-      head = tail = new Node<T>(elem, null, null);
+      head = tail = newNode(elem, null);
     } else {
-      Node<T> temp = new Node<T>(elem, null, head);
+      Node<T> temp = newNode(elem, head);
       head = temp;
     }
     size++;
+    modCount++;
   }
 
   // Adiciona um elemento em um índice específico
@@ -90,10 +124,56 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     for (int i = 0; i < index - 1; i++) {
       temp = temp.next;
     }
-    Node<T> newNode = new Node<T>(data, temp, temp.next);
+    if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", index - 1);
+    Node<T> newNode = newNode(data, temp.next);
     temp.next = newNode;
 
+    // Inserção entre nodes registrados quebra a sequência de predecessores
+    if (index > size - 1 - (pathTo - pathFrom)) resetTailPath();
     size++;
+    modCount++;
+  }
+
+  // Define quantos nodes removidos a lista guarda para reusar em inserções futuras,
+  // evitando alocar um Node por inserção em cargas com muitas inserções e remoções.
+  // 0 (padrão) desabilita o reuso; reduzir a capacidade descarta o excedente
+  public void setNodePoolCapacity(int maxPooled) {
+    if (maxPooled < 0) throw new IllegalArgumentException("Illegal Capacity: " + maxPooled);
+    this.maxPooled = maxPooled;
+    while (pooled > maxPooled) {
+      Node<T> node = pool;
+      pool = node.next;
+      node.next = null;
+      pooled--;
+    }
+  }
+
+  // Retorna quantos nodes estão guardados para reuso
+  public int pooledNodes() {
+    return pooled;
+  }
+
+  // Cria um node, reaproveitando um do pool quando houver
+  private Node<T> newNode(T data, Node<T> next) {
+    Node<T> node = pool;
+    if (node == null) return new Node<T>(data, null, next);
+    pool = node.next;
+    pooled--;
+    node.data = data;
+    node.next = next;
+    return node;
+  }
+
+  // Limpa um node removido e o devolve ao pool se houver espaço
+  private void recycle(Node<T> node) {
+    node.data = null;
+    if (pooled < maxPooled) {
+      node.next = pool;
+      pool = node;
+      pooled++;
+    } else {
+      node.next = null;
+    }
   }
 
   // Verifica o valor do primeiro node se existir, O(1)
@@ -112,81 +192,60 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   public T removeFirst() {
     if (isEmpty()) throw new RuntimeException("Empty list");
 
-    T data = head.data;
+    Node<T> node = head;
+    T data = node.data;
     head = head.next;
     --size;
+    modCount++;
 
     if (isEmpty()) tail = null;
+    if (pathFrom < pathTo && tailPath[pathFrom] == node) tailPath[pathFrom++] = null;
 
+    recycle(node);
     return data;
   }
 
-  // Remove o último valor da lista, O(n)
+  // Remove o último valor da lista, O(1) amortizado
   public T removeLast() {
     if (isEmpty()) throw new RuntimeException("Empty list");
+    if (size == 1) return removeFirst();
 
-    Node<T> trav = head;
-
-    while (head.next.next != null) {
-      trav = trav.next;
-    }
-
-    T data = tail.data;
-    tail = trav;
+    if (pathFrom == pathTo) rebuildTailPath();
+    Node<T> prev = tailPath[--pathTo];
+    tailPath[pathTo] = null;
+    return unlinkTail(prev);
+  }
 
+  // Remove o tail dado o seu predecessor, O(1)
+  private T unlinkTail(Node<T> prev) {
+    Node<T> node = tail;
+    T data = node.data;
+    prev.next = null;
+    tail = prev;
     --size;
+    modCount++;
 
-    if (isEmpty()) head = null;
-    else tail.next = trav;
-
+    recycle(node);
     return data;
   }
 
-  // Remove um node arbitrário da lista, O(n)
-  private T remove(Node<T> node) {
-    if (node.next == null) return removeLast();
-
-    Node<T> trav = head;
-    Node<T> prev = null;
-
-    while (trav != null && trav != node) {
-      prev = trav;
-      trav = trav.next;
+  // Remove um node arbitrário da lista dado o seu predecessor e o seu índice, O(1)
+  private T remove(Node<T> node, Node<T> prev, int index) {
+    if (prev == null) return removeFirst();
+    if (node == tail) {
+      if (pathFrom < pathTo) tailPath[--pathTo] = null; // O topo é `prev`
+      return unlinkTail(prev);
     }
 
-    if (trav == null) return null;
-
-    if (prev == null) {
-      head = head.next;
-    } else {
-      prev.next = trav.next;
-    }
-
-    T data = trav.data;
-
-    trav.data = null;
-    trav.next = null;
-
-    size--;
-
-    return data;
-  }
-
-  private T remove(Node<T> node, Node<T> prev) {
-    if (node.next == null) return removeLast();
-
-    if (prev == null) {
-      head = head.next;
-    } else {
-      prev.next = node.next;
-    }
+    // Remoção de um node registrado quebra a sequência de predecessores
+    if (index >= size - 1 - (pathTo - pathFrom)) resetTailPath();
+    prev.next = node.next;
 
     T data = node.data;
-
-    node.data = null;
-    node.next = null;
+    recycle(node);
 
     size--;
+    modCount++;
 
     return data;
   }
@@ -199,37 +258,112 @@ public class SinglyLinkedList<T> implements Iterable<T> {
 
     int i;
     Node<T> trav;
+    Node<T> prev = null;
 
     for (i = 0, trav = head; i != index; i++) {
+      prev = trav;
       trav = trav.next;
     }
+    if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", index);
 
-    return remove(trav);
+    return remove(trav, prev, index);
   }
 
   // Remove um valor particular na lista, O(n)
   public boolean remove(Object obj) {
     Node<T> trav = head;
     Node<T> prev = null;
+    int index = 0;
 
     if (obj == null) {
-      for (trav = head; trav != null; prev = trav, trav = trav.next) {
+      for (trav = head; trav != null; prev = trav, trav = trav.next, index++) {
         if (trav.data == null) {
-          remove(trav, prev);
+          if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", index);
+          remove(trav, prev, index);
           return true;
         }
       }
     } else {
-      for (trav = head; trav != null; prev = trav, trav = trav.next) {
+      for (trav = head; trav != null; prev = trav, trav = trav.next, index++) {
         if (obj.equals(trav.data)) {
-          remove(trav, prev);
+          if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", index);
+          remove(trav, prev, index);
           return true;
         }
       }
     }
+    if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", size);
     return false;
   }
 
+  // Remove todos os elementos que satisfazem o filtro em uma única passada, O(n)
+  // Se o filtro lançar exceção, os elementos já removidos continuam removidos e a
+  // lista permanece consistente (tail e caminho do tail são corrigidos no finally)
+  public boolean removeIf(Predicate<? super T> filter) {
+    if (filter == null) throw new IllegalArgumentException("Filter cannot be null");
+    boolean removed = false;
+    Node<T> prev = null;
+    Node<T> trav = head;
+    try {
+      while (trav != null) {
+        Node<T> next = trav.next;
+        if (filter.test(trav.data)) {
+          if (prev == null) head = next;
+          else prev.next = next;
+          recycle(trav);
+          size--;
+          modCount++;
+          removed = true;
+        } else {
+          prev = trav;
+        }
+        trav = next;
+      }
+    } finally {
+      if (removed) {
+        // Interrompido antes do fim, o tail ainda não foi visitado e continua ligado
+        if (trav == null) tail = prev; // Último node mantido
+        resetTailPath(); // Pode conter predecessores já desligados
+      }
+    }
+    return removed;
+  }
+
+  // Registra a metade final dos predecessores do tail, O(n)
+  @SuppressWarnings("unchecked")
+  private void rebuildTailPath() {
+    int count = Math.min(size - 1, Math.max(MIN_TAIL_PATH, size / 2));
+    if (tailPath == null || tailPath.length < count || tailPath.length > 4 * Math.max(MIN_TAIL_PATH, count)) {
+      tailPath = (Node<T>[]) new Node<?>[Math.max(MIN_TAIL_PATH, count)];
+    }
+    Node<T> trav = head;
+    for (int i = size - 1 - count; i > 0; i--) trav = trav.next;
+    for (int i = 0; i < count; i++, trav = trav.next) tailPath[i] = trav;
+    if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", size - 1);
+    pathFrom = 0;
+    pathTo = count;
+  }
+
+  // Registra o tail atual como predecessor do tail que está sendo adicionado, O(1) amortizado
+  @SuppressWarnings("unchecked")
+  private void pushTailPath(Node<T> node) {
+    if (tailPath == null) tailPath = (Node<T>[]) new Node<?>[MIN_TAIL_PATH];
+    if (pathTo == tailPath.length) {
+      // Cheio: descarta os registros mais antigos para manter a memória limitada
+      int keep = Math.min(pathTo - pathFrom, tailPath.length / 2);
+      System.arraycopy(tailPath, pathTo - keep, tailPath, 0, keep);
+      Arrays.fill(tailPath, keep, pathTo, null);
+      pathFrom = 0;
+      pathTo = keep;
+    }
+    tailPath[pathTo++] = node;
+  }
+
+  private void resetTailPath() {
+    if (tailPath != null) Arrays.fill(tailPath, pathFrom, pathTo, null);
+    pathFrom = pathTo = 0;
+  }
+
   // Encontra o índice de um valor particular na lista, O(n)
   public int indexOf(Object obj) {
     int index = 0;
@@ -238,16 +372,19 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     if (obj == null) {
       for (; trav != null; trav = trav.next, index++) {
         if (trav.data == null) {
+          if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", index);
           return index;
         }
       }
     } else {
       for (; trav != null; trav = trav.next, index++) {
         if (obj.equals(trav.data)) {
+          if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", index);
           return index;
         }
       }
     }
+    if (Metrics.ENABLED) Metrics.traversal("SinglyLinkedList", size);
     return -1;
   }
 
@@ -256,10 +393,13 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     return indexOf(obj) != -1;
   }
 
+  // Iterator fail-fast: lança ConcurrentModificationException se a lista for
+  // modificada estruturalmente durante a iteração
   @Override
   public java.util.Iterator<T> iterator() {
     return new java.util.Iterator<T>() {
       private Node<T> trav = head;
+      private final int expectedModCount = modCount;
 
       @Override
       public boolean hasNext() {
@@ -268,11 +408,21 @@ public class SinglyLinkedList<T> implements Iterable<T> {
 
       @Override
       public T next() {
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        if (trav == null) throw new NoSuchElementException();
         T data = trav.data;
         trav = trav.next;
         return data;
       }
 
+      @Override
+      public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) throw new IllegalArgumentException("Action cannot be null");
+        // Verifica a cada passo: uma ação que insere na lista não pode prolongar o laço
+        for (; trav != null && modCount == expectedModCount; trav = trav.next) action.accept(trav.data);
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+      }
+
       @Override
       public void remove() {
         throw new UnsupportedOperationException();
@@ -280,20 +430,103 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     };
   }
 
+  // Percorre a lista diretamente pelos nodes, sem criar um iterator, O(n)
   @Override
-  public String toString() {
-    StringBuilder sb = new StringBuilder();
-    sb.append("[ ");
-    Node<T> trav = head;
-    while (trav != null) {
-      sb.append(trav.data);
-      if (trav.next != null) {
-        sb.append(", ");
+  public void forEach(Consumer<? super T> action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    int expectedModCount = modCount;
+    // Verifica a cada passo, como ArrayList.forEach: uma ação que insere na lista
+    // lança exceção em vez de percorrer os nodes novos indefinidamente
+    for (Node<T> trav = head; trav != null && modCount == expectedModCount; trav = trav.next) {
+      action.accept(trav.data);
+    }
+    if (modCount != expectedModCount) throw new ConcurrentModificationException();
+  }
+
+  // Spliterator que divide copiando lotes crescentes de elementos para arrays,
+  // permitindo que parallelStream distribua o trabalho entre threads
+  @Override
+  public Spliterator<T> spliterator() {
+    return new LinkedSpliterator<T, Node<T>>() {
+      @Override
+      protected Node<T> head() {
+        return head;
       }
-      trav = trav.next;
+
+      @Override
+      protected int size() {
+        return size;
+      }
+
+      @Override
+      protected int modCount() {
+        return modCount;
+      }
+
+      @Override
+      protected Node<T> next(Node<T> node) {
+        return node.next;
+      }
+
+      @Override
+      protected T data(Node<T> node) {
+        return node.data;
+      }
+    };
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, size);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append("[ ");
+    int shown = 0;
+    for (Node<T> trav = head; trav != null && shown < maxElements; trav = trav.next, shown++) {
+      if (shown > 0) out.append(", ");
+      Appendables.appendObject(out, trav.data, scratch);
+    }
+    if (shown < size) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, size - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(" ]");
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de listas grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(size, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
     }
-    sb.append(" ]");
-    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return toString(size);
   }
 
   // Exemplo de uso
@@ -303,12 +536,17 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     ar.add(7);
     ar.add(6);
     ar.add(-2);
-    ar.add(5); // Não adicionar
+    ar.add(5);
 
     System.out.println(ar);
 
     ar.removeAt(2);
 
     System.out.println(ar);
+
+    ar.removeLast();
+    ar.removeIf(v -> v < 0);
+
+    System.out.println(ar); // [ 3, 7 ]
   }
 }
@@ -0,0 +1,248 @@
+package com.gustavo.datastructures.staticarray;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// StaticArray persistente, mapeado em arquivo com FileChannel.map
+// Abrir um arquivo existente é apenas o mapeamento, sem desserializar elementos.
+//
+// Layout do arquivo (little-endian):
+//   0  magic     int   0x53544152 ("STAR")
+//   4  version   int
+//   8  size      int
+//   12 capacity  int
+//   16 flags     int   (bit 0: ordenado)
+//   20 reservado até HEADER_BYTES
+//   HEADER_BYTES  capacity * 4 bytes de elementos
+public class MappedStaticArray implements AutoCloseable {
+
+  public static final int MAGIC = 0x53544152;
+  public static final int VERSION = 1;
+
+  private static final int HEADER_BYTES = 32;
+  private static final int SIZE_OFFSET = 8;
+  private static final int CAPACITY_OFFSET = 12;
+  private static final int FLAGS_OFFSET = 16;
+  private static final int FLAG_SORTED = 1;
+
+  // Maior capacidade que cabe em um único mapeamento
+  public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / Integer.BYTES;
+
+  private final FileChannel channel;
+  private final boolean readOnly;
+  private MappedByteBuffer buffer;
+  private IntBuffer data;
+  private int size;
+  private final int capacity;
+  private boolean sorted;
+
+  private MappedStaticArray(FileChannel channel, MappedByteBuffer buffer, boolean readOnly) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.readOnly = readOnly;
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.getInt(0) != MAGIC) throw new IllegalArgumentException("Not a MappedStaticArray file");
+    int version = buffer.getInt(4);
+    if (version != VERSION) throw new IllegalArgumentException("Unsupported version: " + version);
+    this.size = buffer.getInt(SIZE_OFFSET);
+    this.capacity = buffer.getInt(CAPACITY_OFFSET);
+    this.sorted = (buffer.getInt(FLAGS_OFFSET) & FLAG_SORTED) != 0;
+    if (size < 0 || capacity < size || buffer.capacity() < HEADER_BYTES + (long) capacity * Integer.BYTES) {
+      throw new IllegalArgumentException("Corrupted header");
+    }
+    this.data = buffer.slice(HEADER_BYTES, capacity * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+  }
+
+  // Cria (ou sobrescreve) um arquivo com a capacidade dada
+  public static MappedStaticArray create(Path path, int capacity) throws IOException {
+    if (capacity < 0 || capacity > MAX_CAPACITY) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) capacity * Integer.BYTES);
+      buf.order(ByteOrder.LITTLE_ENDIAN);
+      buf.putInt(0, MAGIC);
+      buf.putInt(4, VERSION);
+      buf.putInt(SIZE_OFFSET, 0);
+      buf.putInt(CAPACITY_OFFSET, capacity);
+      buf.putInt(FLAGS_OFFSET, FLAG_SORTED); // Um array vazio está ordenado
+      return new MappedStaticArray(ch, buf, false);
+    } catch (IOException | RuntimeException e) {
+      ch.close();
+      throw e;
+    }
+  }
+
+  // Abre um arquivo existente para leitura e escrita
+  public static MappedStaticArray open(Path path) throws IOException {
+    return open(path, false);
+  }
+
+  // Abre um arquivo existente somente para leitura; pode ser compartilhado entre processos
+  public static MappedStaticArray openReadOnly(Path path) throws IOException {
+    return open(path, true);
+  }
+
+  private static MappedStaticArray open(Path path, boolean readOnly) throws IOException {
+    FileChannel ch = readOnly
+        ? FileChannel.open(path, StandardOpenOption.READ)
+        : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      if (ch.size() < HEADER_BYTES) throw new IllegalArgumentException("Not a MappedStaticArray file");
+      MappedByteBuffer buf = ch.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, 0, ch.size());
+      return new MappedStaticArray(ch, buf, readOnly);
+    } catch (IOException | RuntimeException e) {
+      ch.close();
+      throw e;
+    }
+  }
+
+  // Retorna o tamanho do array
+  public int size() {
+    return size;
+  }
+
+  // Retorna a capacidade fixa do array
+  public int capacity() {
+    return capacity;
+  }
+
+  // Retorna true se o array está marcado como ordenado
+  public boolean isSorted() {
+    return sorted;
+  }
+
+  // Retorna true se o arquivo foi aberto somente para leitura
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  public int get(int index) {
+    checkOpen();
+    if (index >= 0 && index < size) {
+      return data.get(index);
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  public void set(int index, int elem) {
+    checkWritable();
+    if (index >= 0 && index < size) {
+      data.put(index, elem);
+      if (sorted && !neighboursSorted(index)) setSorted(false);
+    } else {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+  }
+
+  // Adicionar um elemento no array
+  public void add(int elem) {
+    checkWritable();
+    if (size == capacity) throw new IllegalStateException("Array is full. Cannot add more elements.");
+    if (sorted && size > 0 && data.get(size - 1) > elem) setSorted(false);
+    data.put(size, elem);
+    buffer.putInt(SIZE_OFFSET, ++size);
+  }
+
+  // Executa binary search no array,
+  // Método com O(log(n))
+  // Array precisa estar ordenado, caso contrário lança IllegalStateException (como StaticArray)
+  // Se não encontrado retorna onde o elemento deveria ser inserido
+  public int binarySearch(int key) {
+    checkOpen();
+    if (!sorted) throw new IllegalStateException("Array is not sorted");
+    int lo = 0, hi = size - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      int v = data.get(mid);
+      if (v < key) lo = mid + 1;
+      else if (v > key) hi = mid - 1;
+      else return mid;
+    }
+    return lo;
+  }
+
+  // Ordena o array, O(1) se já estiver marcado como ordenado
+  public void sort() {
+    checkWritable();
+    if (sorted) return;
+    int[] tmp = new int[size];
+    data.get(0, tmp);
+    java.util.Arrays.sort(tmp);
+    data.put(0, tmp);
+    setSorted(true);
+  }
+
+  // Verifica se o elemento em `index` continua em ordem com os vizinhos
+  private boolean neighboursSorted(int index) {
+    int v = data.get(index);
+    if (index > 0 && data.get(index - 1) > v) return false;
+    return index + 1 >= size || v <= data.get(index + 1);
+  }
+
+  private void setSorted(boolean value) {
+    if (sorted == value) return;
+    sorted = value;
+    buffer.putInt(FLAGS_OFFSET, value ? FLAG_SORTED : 0);
+  }
+
+  // Garante que as alterações foram gravadas no disco
+  public void force() {
+    checkWritable();
+    buffer.force();
+  }
+
+  // Grava as alterações pendentes e fecha o arquivo
+  // O mapeamento é liberado pelo GC quando o buffer não for mais referenciado
+  @Override
+  public void close() throws IOException {
+    if (buffer == null) return;
+    if (!readOnly) buffer.force();
+    buffer = null;
+    data = null;
+    channel.close();
+  }
+
+  private void checkOpen() {
+    if (buffer == null) throw new IllegalStateException("Array is closed");
+  }
+
+  private void checkWritable() {
+    checkOpen();
+    if (readOnly) throw new UnsupportedOperationException("Array is read-only");
+  }
+
+  @Override
+  public String toString() {
+    if (buffer == null) return "[closed]";
+    if (size == 0) return "[]";
+    StringBuilder sb = new StringBuilder().append('[');
+    for (int i = 0; i < size - 1; i++) sb.append(data.get(i)).append(", ");
+    return sb.append(data.get(size - 1)).append(']').toString();
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) throws IOException {
+    Path path = java.nio.file.Files.createTempFile("static-array", ".bin");
+
+    try (MappedStaticArray ar = MappedStaticArray.create(path, 4)) {
+      ar.add(3);
+      ar.add(7);
+      ar.add(6);
+      ar.add(-2);
+      ar.sort();
+    }
+
+    try (MappedStaticArray ar = MappedStaticArray.openReadOnly(path)) {
+      System.out.println(ar + " sorted=" + ar.isSorted() + " index(6)=" + ar.binarySearch(6));
+    }
+
+    java.nio.file.Files.delete(path);
+  }
+}
@@ -1,13 +1,28 @@
 package com.gustavo.datastructures.staticarray;
 
-import java.util.Iterator;
+import com.gustavo.datastructures.metrics.Metrics;
+import com.gustavo.datastructures.util.Appendables;
+import com.gustavo.datastructures.util.RadixSort;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public class StaticArray implements Iterable<Integer> {
 
   private static final int DEFAULT_CAP = 1 << 3; // Shift - 1 << 3 = 2^3 = 8
 
-  public int[] arr;
+  private int[] arr;
   private int size = 0;
+  private boolean sorted = true; // Mantido por todas as operações de escrita
   private int capacity = 0;
 
   // Iniciar o array com capacidade default
@@ -22,13 +37,42 @@ public class StaticArray implements Iterable<Integer> {
     arr = new int[capacity];
   }
 
+  private StaticArray(int capacity, int[] storage) {
+    this.capacity = capacity;
+    arr = storage;
+  }
+
+  // Array com capacidade fixa cujo armazenamento é alocado sob demanda, dobrando até
+  // `capacity` conforme os elementos chegam. Útil quando a capacidade vem de uma fonte não
+  // confiável (ex.: um cabeçalho serializado) e não deve ser alocada antes dos dados
+  public static StaticArray withLazyStorage(int capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    return new StaticArray(capacity, new int[Math.min(capacity, DEFAULT_CAP)]);
+  }
+
+  // Garante armazenamento para `minLength` elementos (minLength <= capacity)
+  private void ensureStorage(int minLength) {
+    if (minLength <= arr.length) return;
+    int newLength = (int) Math.min(capacity, Math.max(minLength, (long) arr.length << 1));
+    arr = java.util.Arrays.copyOf(arr, newLength);
+  }
+
   // Retorna o tamanho do array
   public int size() {
     return size;
   }
 
-  // Para obter/definir valores sem sobrecarga de chamada de método, você pode usar
-  // array_obj.arr[index] e ganhar cerca de 10 vezes mais velocidade!
+  // Retorna true se os elementos estão em ordem crescente, O(1)
+  public boolean isSorted() {
+    return sorted;
+  }
+
+  // Retorna a capacidade fixa do array
+  public int capacity() {
+    return capacity;
+  }
+
+  // Para percorrer sem boxing use intIterator(), forEachInt(IntConsumer), stream() ou copyTo()
   public int get(int index) {
     if (index >= 0 && index < size) {
       return arr[index];
@@ -40,25 +84,28 @@ public class StaticArray implements Iterable<Integer> {
   public void set(int index, int elem) {
     if (index >= 0 && index < size) {
       arr[index] = elem;
+      if (sorted) sorted = isSortedRange(index, index + 1);
     } else {
       throw new IndexOutOfBoundsException("Index out of range.");
     }
   }
 
   // Adicionar um elemento no array
-  public void add(int elem) {
-    if (size < capacity) {
-      arr[size] = elem;
-      size++;
-    } else {
-      System.out.println("Array is full. Cannot add more elements.");
-    }
+  // Retorna false se o array estiver cheio; para um buffer concorrente veja IntRingBuffer
+  public boolean add(int elem) {
+    if (size == capacity) return false;
+    if (size == arr.length) ensureStorage(size + 1);
+    if (sorted && size > 0 && arr[size - 1] > elem) sorted = false;
+    arr[size++] = elem;
+    return true;
   }
 
   // Remove o elemento em um índice específico
   // Método com O(n), já que reconstroi o array
   public void removeAt(int rm_index) {
+    if (rm_index < 0 || rm_index >= size) throw new IndexOutOfBoundsException("Index out of range.");
     System.arraycopy(arr, rm_index + 1, arr, rm_index, size - rm_index - 1);
+    if (Metrics.ENABLED) Metrics.shift("StaticArray", size - rm_index - 1);
     --size;
   }
 
@@ -74,8 +121,83 @@ public class StaticArray implements Iterable<Integer> {
     return false;
   }
 
+  // Adiciona `count` elementos de src[off..] ao final com uma única cópia, O(count)
+  // Lança IllegalStateException sem copiar nada se não couberem todos
+  public void addAll(int[] src, int off, int count) {
+    if (src == null) throw new IllegalArgumentException("Array cannot be null");
+    if (off < 0 || count < 0 || count > src.length - off) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    if (count > capacity - size) throw new IllegalStateException("Array is full. Cannot add " + count + " elements.");
+    ensureStorage(size + count);
+    System.arraycopy(src, off, arr, size, count);
+    int from = size;
+    size += count;
+    if (sorted) sorted = isSortedRange(from, size);
+  }
+
+  // Adiciona todos os elementos do array ao final
+  public void addAll(int[] src) {
+    if (src == null) throw new IllegalArgumentException("Array cannot be null");
+    addAll(src, 0, src.length);
+  }
+
+  // Adiciona todos os elementos de outro StaticArray ao final
+  public void addAll(StaticArray other) {
+    if (other == null) throw new IllegalArgumentException("Array cannot be null");
+    addAll(other.arr, 0, other.size);
+  }
+
+  // Insere os elementos de src a partir de `index`, deslocando o restante uma única vez, O(n + k)
+  public void insertAll(int index, int[] src) {
+    if (src == null) throw new IllegalArgumentException("Array cannot be null");
+    if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index out of range.");
+    int count = src.length;
+    if (count > capacity - size) throw new IllegalStateException("Array is full. Cannot add " + count + " elements.");
+    ensureStorage(size + count);
+    System.arraycopy(arr, index, arr, index + count, size - index);
+    System.arraycopy(src, 0, arr, index, count);
+    if (Metrics.ENABLED) Metrics.shift("StaticArray", size - index);
+    size += count;
+    if (sorted) sorted = isSortedRange(index, index + count);
+  }
+
+  // Remove os elementos em [from, to) com um único deslocamento, O(n)
+  public void removeRange(int from, int to) {
+    if (from < 0 || to > size || from > to) throw new IndexOutOfBoundsException("Index out of range.");
+    System.arraycopy(arr, to, arr, from, size - to);
+    if (Metrics.ENABLED) Metrics.shift("StaticArray", size - to);
+    size -= to - from;
+  }
+
+  // Remove todos os elementos que satisfazem o predicado, O(n)
+  // Como em ArrayList.removeIf, o predicado é avaliado em todos os elementos antes de
+  // qualquer escrita: se ele lançar exceção, o array continua intacto
+  // Retorna true se algum elemento foi removido
+  public boolean removeIf(IntPredicate filter) {
+    if (filter == null) throw new IllegalArgumentException("Filter cannot be null");
+    int first = 0;
+    while (first < size && !filter.test(arr[first])) first++;
+    if (first == size) return false;
+    // Marca as remoções a partir do primeiro elemento removido
+    BitSet removed = new BitSet(size - first);
+    removed.set(0);
+    for (int r = first + 1; r < size; r++) {
+      if (filter.test(arr[r])) removed.set(r - first);
+    }
+    int w = first;
+    for (int r = first; r < size; r++) {
+      int v = arr[r];
+      if (!removed.get(r - first)) arr[w++] = v;
+    }
+    size = w;
+    return true;
+  }
+
   // Reverte os conteúdos do array
   public void reverse() {
+    // Continua ordenado apenas se todos os elementos forem iguais
+    if (sorted && size > 1) sorted = arr[0] == arr[size - 1];
     for (int i = 0; i < size / 2; i++) {
       int tmp = arr[i];
       arr[i] = arr[size - i - 1];
@@ -85,48 +207,159 @@ public class StaticArray implements Iterable<Integer> {
 
   // Executa binary search no array,
   // Método com O(log(n))
-  // Array precisa estar ordenado
-  // Retorna valor < 0 se não possui o elemento
+  // Array precisa estar ordenado, caso contrário lança IllegalStateException
+  // Se não encontrado retorna onde o elemento deveria ser inserido
   public int binarySearch(int key) {
+    if (!sorted) throw new IllegalStateException("Array is not sorted");
     int index = java.util.Arrays.binarySearch(arr, 0, size, key);
     if (index < 0) index = -index - 1; // Se não encontrado irá dizer onde deverá ser inserido
     return index;
   }
 
   // Ordena o array
+  // O(1) se o array já estiver ordenado
   public void sort() {
+    if (sorted) return;
     java.util.Arrays.sort(arr, 0, size);
+    sorted = true;
+  }
+
+  // Ordena com LSD radix sort (um buffer auxiliar de size ints), O(n)
+  // Mais rápido que sort() para arrays grandes com chaves bem distribuídas
+  public void radixSort() {
+    if (sorted) return;
+    RadixSort.sort(arr, 0, size);
+    sorted = true;
   }
 
+  // Insere mantendo a ordem com um único deslocamento, O(n)
+  // Retorna o índice onde o elemento foi inserido
+  public int insertSorted(int elem) {
+    if (!sorted) throw new IllegalStateException("Array is not sorted");
+    int index = java.util.Arrays.binarySearch(arr, 0, size, elem);
+    if (index < 0) index = -index - 1;
+    if (size == capacity) throw new IllegalStateException("Array is full. Cannot add more elements.");
+    ensureStorage(size + 1);
+    System.arraycopy(arr, index, arr, index + 1, size - index);
+    if (Metrics.ENABLED) Metrics.shift("StaticArray", size - index);
+    arr[index] = elem;
+    size++;
+    return index;
+  }
+
+  // Verifica a ordem em arr[from..to) incluindo os vizinhos do intervalo, O(to - from)
+  private boolean isSortedRange(int from, int to) {
+    for (int i = Math.max(from, 1); i < Math.min(to + 1, size); i++) {
+      if (arr[i - 1] > arr[i]) return false;
+    }
+    return true;
+  }
+
+  // Copia `count` elementos a partir de `from` para dst[off..], O(count)
+  public void copyTo(int[] dst, int off, int from, int count) {
+    if (dst == null) throw new IllegalArgumentException("Array cannot be null");
+    if (from < 0 || count < 0 || count > size - from || off < 0 || count > dst.length - off) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    System.arraycopy(arr, from, dst, off, count);
+  }
+
+  // Retorna uma cópia dos elementos do array, O(n)
+  public int[] toArray() {
+    return java.util.Arrays.copyOf(arr, size);
+  }
+
+  // Aplica a ação em cada elemento sem boxing, O(n). Nome distinto de
+  // Iterable.forEach para que lambdas não fiquem ambíguas entre as duas sobrecargas
+  public void forEachInt(IntConsumer action) {
+    for (int i = 0; i < size; i++) action.accept(arr[i]);
+  }
+
+  // Stream primitivo sobre os elementos, divisível para streams paralelos
+  public IntStream stream() {
+    return StreamSupport.intStream(spliterator(), false);
+  }
+
+  // Spliterator SIZED/SUBSIZED sobre arr[0..size)
   @Override
-  public Iterator<Integer> iterator() {
-    return new java.util.Iterator<Integer>() {
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(arr, 0, size, Spliterator.ORDERED);
+  }
+
+  // Iterador primitivo, use nextInt() para evitar boxing
+  public PrimitiveIterator.OfInt intIterator() {
+    return new PrimitiveIterator.OfInt() {
       int index = 0;
 
+      @Override
       public boolean hasNext() {
         return index < size;
       }
 
-      public Integer next() {
+      @Override
+      public int nextInt() {
+        if (index >= size) throw new NoSuchElementException();
         return arr[index++];
       }
 
-      public void remove() {
-        throw new UnsupportedOperationException();
+      @Override
+      public void forEachRemaining(IntConsumer action) {
+        for (; index < size; index++) action.accept(arr[index]);
       }
     };
   }
 
   @Override
-  public String toString() {
-    if (size == 0) return "[]";
-    else {
-      StringBuilder sb = new StringBuilder(size).append("[");
-      for (int i = 0; i < size - 1; i++) sb.append(arr[i] + ", ");
-      return sb.append(arr[size - 1] + "]").toString();
+  public PrimitiveIterator.OfInt iterator() {
+    return intIterator();
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, size);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    int shown = Math.min(size, maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append('[');
+    for (int i = 0; i < shown; i++) {
+      if (i > 0) out.append(", ");
+      Appendables.appendLong(out, arr[i], scratch);
+    }
+    if (shown < size) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, size - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(']');
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de arrays grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(size, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
     }
   }
 
+  @Override
+  public String toString() {
+    return toString(size);
+  }
+
   // Exemplo de uso
   public static void main(String[] args) {
     StaticArray ar = new StaticArray(4);
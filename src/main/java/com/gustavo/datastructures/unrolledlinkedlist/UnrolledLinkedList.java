@@ -0,0 +1,375 @@
+package com.gustavo.datastructures.unrolledlinkedlist;
+
+import com.gustavo.datastructures.util.Appendables;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Lista ligada desenrolada: cada node guarda um pequeno array de elementos, então
+// percursos tocam um node a cada `nodeCapacity` elementos e varrem arrays contíguos.
+// Um node cheio é dividido ao meio na inserção; um node com menos da metade após uma
+// remoção pega elementos do próximo ou é fundido com ele.
+// Mesma API pública da SinglyLinkedList.
+public class UnrolledLinkedList<T> implements Iterable<T> {
+
+  private static final int DEFAULT_NODE_CAPACITY = 32;
+
+  private final int nodeCapacity;
+  private int size = 0;
+  private Node head = null;
+  private Node tail = null;
+
+  // Classe interna Node com um bloco de até `nodeCapacity` elementos
+  private static class Node {
+    private final Object[] elems;
+    private int count;
+    private Node next;
+
+    public Node(int capacity) {
+      this.elems = new Object[capacity];
+    }
+  }
+
+  public UnrolledLinkedList() {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  // `nodeCapacity` é o número de elementos por node, tipicamente entre 16 e 64
+  public UnrolledLinkedList(int nodeCapacity) {
+    if (nodeCapacity < 4) throw new IllegalArgumentException("Illegal Capacity: " + nodeCapacity);
+    this.nodeCapacity = nodeCapacity;
+  }
+
+  // Limpar Linked List, O(1): os nodes ficam para o GC
+  public void clear() {
+    head = tail = null;
+    size = 0;
+  }
+
+  // Retorna o tamanho da Linked List
+  public int size() {
+    return size;
+  }
+
+  // Retorna se a lista está vazio
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // Adiciona um elemento ao tail da Lista, O(1)
+  public void add(T elem) {
+    addLast(elem);
+  }
+
+  // Adiciona um elemento ao tail da lista, O(1)
+  public void addLast(T elem) {
+    if (isEmpty()) {
+      head = tail = new Node(nodeCapacity);
+    } else if (tail.count == nodeCapacity) {
+      // Node novo em vez de divisão: appends deixam os nodes anteriores cheios
+      tail.next = new Node(nodeCapacity);
+      tail = tail.next;
+    }
+    tail.elems[tail.count++] = elem;
+    size++;
+  }
+
+  // Adiciona um elemento ao head da lista, O(nodeCapacity)
+  public void addFirst(T elem) {
+    if (isEmpty()) {
+      head = tail = new Node(nodeCapacity);
+    } else if (head.count == nodeCapacity) {
+      Node node = new Node(nodeCapacity);
+      node.next = head;
+      head = node;
+    }
+    insert(head, 0, elem);
+  }
+
+  // Adiciona um elemento em um índice específico, O(n / nodeCapacity + nodeCapacity)
+  public void addAt(int index, T data) throws Exception {
+    if (index < 0 || index > size) {
+      throw new Exception("Illegal Index");
+    }
+    if (index == 0) {
+      addFirst(data);
+      return;
+    }
+    if (index == size) {
+      addLast(data);
+      return;
+    }
+
+    Node node = head;
+    while (index >= node.count) {
+      index -= node.count;
+      node = node.next;
+    }
+    insert(node, index, data);
+  }
+
+  // Retorna o valor em um índice particular, O(n / nodeCapacity)
+  public T get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index out of range.");
+    }
+    Node node = head;
+    while (index >= node.count) {
+      index -= node.count;
+      node = node.next;
+    }
+    return elem(node, index);
+  }
+
+  // Verifica o valor do primeiro elemento se existir, O(1)
+  public T peekFirst() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return elem(head, 0);
+  }
+
+  // Verifica o valor do último elemento se existir, O(1)
+  public T peekLast() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return elem(tail, tail.count - 1);
+  }
+
+  // Remove o primeiro valor da lista, O(nodeCapacity)
+  public T removeFirst() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    return remove(null, head, 0);
+  }
+
+  // Remove o último valor da lista, O(1), ou O(n / nodeCapacity) quando o tail esvazia
+  public T removeLast() {
+    if (isEmpty()) throw new RuntimeException("Empty list");
+    Node prev = null;
+    if (tail.count == 1) {
+      for (Node trav = head; trav != tail; trav = trav.next) prev = trav;
+    }
+    return remove(prev, tail, tail.count - 1);
+  }
+
+  // Remove o elemento em um índice particular, O(n / nodeCapacity + nodeCapacity)
+  public T removeAt(int index) {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException();
+    }
+
+    Node prev = null;
+    Node node = head;
+    while (index >= node.count) {
+      index -= node.count;
+      prev = node;
+      node = node.next;
+    }
+    return remove(prev, node, index);
+  }
+
+  // Remove um valor particular na lista, O(n)
+  public boolean remove(Object obj) {
+    Node prev = null;
+    for (Node node = head; node != null; prev = node, node = node.next) {
+      int i = indexIn(node, obj);
+      if (i != -1) {
+        remove(prev, node, i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Encontra o índice de um valor particular na lista, O(n)
+  public int indexOf(Object obj) {
+    int base = 0;
+    for (Node node = head; node != null; node = node.next) {
+      int i = indexIn(node, obj);
+      if (i != -1) return base + i;
+      base += node.count;
+    }
+    return -1;
+  }
+
+  // Verifica se um valor está contido na lista
+  public boolean contains(Object obj) {
+    return indexOf(obj) != -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T elem(Node node, int i) {
+    return (T) node.elems[i];
+  }
+
+  // Posição de um valor dentro do bloco de um node, ou -1
+  private static int indexIn(Node node, Object obj) {
+    Object[] elems = node.elems;
+    int count = node.count;
+    if (obj == null) {
+      for (int i = 0; i < count; i++) if (elems[i] == null) return i;
+    } else {
+      for (int i = 0; i < count; i++) if (obj.equals(elems[i])) return i;
+    }
+    return -1;
+  }
+
+  // Insere na posição `offset` de um node, dividindo-o ao meio se estiver cheio
+  private void insert(Node node, int offset, Object elem) {
+    if (node.count == nodeCapacity) {
+      Node right = split(node);
+      if (offset > node.count) {
+        offset -= node.count;
+        node = right;
+      }
+    }
+    System.arraycopy(node.elems, offset, node.elems, offset + 1, node.count - offset);
+    node.elems[offset] = elem;
+    node.count++;
+    size++;
+  }
+
+  // Move a metade superior de um node cheio para um novo node logo após ele
+  private Node split(Node node) {
+    int half = nodeCapacity / 2;
+    Node right = new Node(nodeCapacity);
+    right.count = node.count - half;
+    System.arraycopy(node.elems, half, right.elems, 0, right.count);
+    Arrays.fill(node.elems, half, node.count, null);
+    node.count = half;
+
+    right.next = node.next;
+    node.next = right;
+    if (tail == node) tail = right;
+    return right;
+  }
+
+  // Remove a posição `offset` de um node e reequilibra com o próximo, `prev` é o node anterior
+  private T remove(Node prev, Node node, int offset) {
+    T data = elem(node, offset);
+    System.arraycopy(node.elems, offset + 1, node.elems, offset, node.count - offset - 1);
+    node.elems[--node.count] = null;
+    size--;
+
+    int min = nodeCapacity / 2;
+    Node next = node.next;
+    if (node.count >= min) return data;
+
+    if (next != null) {
+      if (node.count + next.count <= nodeCapacity) {
+        // Funde o próximo node neste
+        System.arraycopy(next.elems, 0, node.elems, node.count, next.count);
+        node.count += next.count;
+        node.next = next.next;
+        if (tail == next) tail = node;
+      } else {
+        // Pega elementos do início do próximo node até atingir a metade
+        int k = min - node.count;
+        System.arraycopy(next.elems, 0, node.elems, node.count, k);
+        System.arraycopy(next.elems, k, next.elems, 0, next.count - k);
+        Arrays.fill(next.elems, next.count - k, next.count, null);
+        node.count += k;
+        next.count -= k;
+      }
+    } else if (node.count == 0) {
+      // Tail vazio
+      if (prev == null) head = null;
+      else prev.next = null;
+      tail = prev;
+    }
+    return data;
+  }
+
+  @Override
+  public java.util.Iterator<T> iterator() {
+    return new java.util.Iterator<T>() {
+      private Node node = head;
+      private int i = 0;
+
+      @Override
+      public boolean hasNext() {
+        return node != null;
+      }
+
+      @Override
+      public T next() {
+        if (node == null) throw new NoSuchElementException();
+        T data = elem(node, i);
+        if (++i == node.count) {
+          node = node.next;
+          i = 0;
+        }
+        return data;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  // Escreve os elementos em `out` no formato de toString(), sem Strings intermediárias, O(n)
+  public <A extends Appendable> A appendTo(A out) throws IOException {
+    return appendTo(out, size);
+  }
+
+  // Escreve no máximo `maxElements` elementos, o restante é resumido como "... (k more)"
+  public <A extends Appendable> A appendTo(A out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    char[] scratch = new char[Appendables.SCRATCH_SIZE];
+    out.append("[ ");
+    int shown = 0;
+    for (Node node = head; node != null && shown < maxElements; node = node.next) {
+      for (int i = 0; i < node.count && shown < maxElements; i++, shown++) {
+        if (shown > 0) out.append(", ");
+        Appendables.appendObject(out, node.elems[i], scratch);
+      }
+    }
+    if (shown < size) {
+      if (shown > 0) out.append(", ");
+      out.append("... (");
+      Appendables.appendLong(out, size - shown, scratch);
+      out.append(" more)");
+    }
+    out.append(" ]");
+    return out;
+  }
+
+  // Escreve os elementos em um Writer, O(n)
+  public void writeTo(Writer out) throws IOException {
+    appendTo(out);
+  }
+
+  // Representação limitada a `maxElements` elementos, útil para logs de listas grandes
+  public String toString(int maxElements) {
+    if (maxElements < 0) throw new IllegalArgumentException("Illegal Max Elements: " + maxElements);
+    StringBuilder sb = new StringBuilder(Appendables.estimateCapacity(Math.min(size, maxElements)));
+    try {
+      return appendTo(sb, maxElements).toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // StringBuilder não lança IOException
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toString(size);
+  }
+
+  // Exemplo de uso
+  public static void main(String[] args) throws Exception {
+    UnrolledLinkedList<Integer> ar = new UnrolledLinkedList<Integer>(4);
+    ar.add(3);
+    ar.add(7);
+    ar.add(6);
+    ar.add(-2);
+    ar.add(5); // Inicia um segundo node
+
+    System.out.println(ar); // [ 3, 7, 6, -2, 5 ]
+
+    ar.addAt(1, 9); // Divide o primeiro node
+    ar.removeAt(2);
+
+    System.out.println(ar); // [ 3, 9, 6, -2, 5 ]
+  }
+}
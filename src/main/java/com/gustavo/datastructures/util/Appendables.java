@@ -0,0 +1,51 @@
+package com.gustavo.datastructures.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Escrita de números e elementos em um Appendable sem criar Strings intermediárias
+public final class Appendables {
+
+  // Tamanho do buffer de rascunho usado por appendLong (cabe Long.MIN_VALUE)
+  public static final int SCRATCH_SIZE = 20;
+
+  private Appendables() {}
+
+  // Escreve o inteiro em `out`; `scratch` deve ter SCRATCH_SIZE posições e pode ser reutilizado
+  public static void appendLong(Appendable out, long v, char[] scratch) throws IOException {
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(v);
+      return;
+    }
+    // Trabalha com valores negativos para suportar Long.MIN_VALUE
+    long n = v < 0 ? v : -v;
+    int pos = SCRATCH_SIZE;
+    do {
+      scratch[--pos] = (char) ('0' - (n % 10));
+      n /= 10;
+    } while (n != 0);
+    if (v < 0) scratch[--pos] = '-';
+
+    if (out instanceof Writer) {
+      ((Writer) out).write(scratch, pos, SCRATCH_SIZE - pos);
+    } else {
+      for (; pos < SCRATCH_SIZE; pos++) out.append(scratch[pos]);
+    }
+  }
+
+  // Escreve um elemento qualquer; CharSequence e inteiros não passam por toString()
+  public static void appendObject(Appendable out, Object value, char[] scratch) throws IOException {
+    if (value instanceof CharSequence) {
+      out.append((CharSequence) value);
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      appendLong(out, ((Number) value).longValue(), scratch);
+    } else {
+      out.append(String.valueOf(value));
+    }
+  }
+
+  // Capacidade inicial de um StringBuilder para `count` elementos (~8 caracteres cada)
+  public static int estimateCapacity(int count) {
+    return (int) Math.min(Integer.MAX_VALUE - 8, (long) count * 8 + 32);
+  }
+}
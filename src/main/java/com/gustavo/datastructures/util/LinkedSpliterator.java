@@ -0,0 +1,98 @@
+package com.gustavo.datastructures.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+// Spliterator para listas ligadas: trySplit copia um lote de elementos do início para
+// um array (que se divide em O(1)) e mantém o restante ligado, como o de LinkedList.
+// Os lotes dobram a cada divisão (LinkedList cresce 1024 por vez), então listas grandes
+// atingem lotes úteis com O(log n) divisões. A lista é vinculada no primeiro uso e
+// modificações estruturais posteriores lançam ConcurrentModificationException.
+//
+// N é o tipo do node da lista; as subclasses informam como navegar por ele.
+public abstract class LinkedSpliterator<T, N> implements Spliterator<T> {
+
+  private static final int BATCH_UNIT = 1 << 10;
+  private static final int MAX_BATCH = 1 << 25;
+
+  private N current;
+  private int est = -1; // Elementos restantes, -1 até o primeiro uso
+  private int expectedModCount;
+  private int batch = BATCH_UNIT / 2;
+
+  protected abstract N head();
+
+  protected abstract int size();
+
+  protected abstract int modCount();
+
+  protected abstract N next(N node);
+
+  protected abstract T data(N node);
+
+  private int getEst() {
+    if (est < 0) {
+      current = head();
+      est = size();
+      expectedModCount = modCount();
+    }
+    return est;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int s = getEst();
+    if (s <= 1 || current == null) return null;
+    int n = Math.min(Math.min(batch * 2, MAX_BATCH), s);
+    Object[] a = new Object[n];
+    int j = 0;
+    N p = current;
+    do {
+      a[j++] = data(p);
+      p = next(p);
+    } while (p != null && j < n);
+    current = p;
+    batch = j;
+    est = s - j;
+    return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    if (getEst() > 0 && current != null) {
+      --est;
+      T data = data(current);
+      current = next(current);
+      action.accept(data);
+      if (modCount() != expectedModCount) throw new ConcurrentModificationException();
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    if (action == null) throw new IllegalArgumentException("Action cannot be null");
+    int n = getEst();
+    N p = current;
+    current = null;
+    est = 0;
+    // Limitado pelos elementos restantes, como o de LinkedList: nodes inseridos pela
+    // ação não prolongam o laço e a modificação é detectada logo em seguida
+    for (; n > 0 && p != null; n--, p = next(p)) action.accept(data(p));
+    if (modCount() != expectedModCount) throw new ConcurrentModificationException();
+  }
+
+  @Override
+  public long estimateSize() {
+    return getEst();
+  }
+
+  @Override
+  public int characteristics() {
+    return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+  }
+}
@@ -0,0 +1,51 @@
+package com.gustavo.datastructures.util;
+
+// LSD radix sort para int, 4 passadas de 8 bits
+// Usa um único buffer auxiliar do tamanho do intervalo; passadas em que todos os
+// elementos têm o mesmo dígito são puladas. O(n) para chaves de 32 bits.
+public final class RadixSort {
+
+  private static final int RADIX_BITS = 8;
+  private static final int BUCKETS = 1 << RADIX_BITS;
+  private static final int MASK = BUCKETS - 1;
+  private static final int PASSES = Integer.SIZE / RADIX_BITS;
+
+  private RadixSort() {}
+
+  // Ordena a[from..to)
+  public static void sort(int[] a, int from, int to) {
+    int n = to - from;
+    if (n < 2) return;
+
+    // Histograma de todas as passadas em uma única leitura do array
+    int[][] counts = new int[PASSES][BUCKETS];
+    for (int i = from; i < to; i++) {
+      int key = a[i] ^ Integer.MIN_VALUE; // Inverte o bit de sinal: negativos antes dos positivos
+      for (int p = 0; p < PASSES; p++) counts[p][(key >>> (p * RADIX_BITS)) & MASK]++;
+    }
+
+    int[] src = a, dst = new int[n];
+    int srcOff = from, dstOff = 0;
+    for (int p = 0; p < PASSES; p++) {
+      int[] count = counts[p];
+      int shift = p * RADIX_BITS;
+      if (count[((src[srcOff] ^ Integer.MIN_VALUE) >>> shift) & MASK] == n) continue; // Dígito único
+
+      // Soma de prefixos: posição inicial de cada bucket
+      int sum = 0;
+      for (int b = 0; b < BUCKETS; b++) {
+        int c = count[b];
+        count[b] = sum;
+        sum += c;
+      }
+      for (int i = 0; i < n; i++) {
+        int v = src[srcOff + i];
+        dst[dstOff + count[((v ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = v;
+      }
+
+      int[] t = src; src = dst; dst = t;
+      int o = srcOff; srcOff = dstOff; dstOff = o;
+    }
+    if (src != a) System.arraycopy(src, srcOff, a, from, n);
+  }
+}
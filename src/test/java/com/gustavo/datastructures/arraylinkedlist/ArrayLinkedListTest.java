@@ -0,0 +1,23 @@
+package com.gustavo.datastructures.arraylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class ArrayLinkedListTest {
+
+  @Test
+  void iteratorThrowsWhenExhausted() {
+    ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+    assertThrows(NoSuchElementException.class, () -> list.iterator().next());
+    for (int i = 0; i < 40; i++) list.add(i);
+    Iterator<Integer> it = list.iterator();
+    for (int i = 0; i < 40; i++) assertEquals(i, it.next());
+    assertFalse(it.hasNext());
+    assertThrows(NoSuchElementException.class, it::next);
+  }
+}
@@ -0,0 +1,121 @@
+package com.gustavo.datastructures.bitmap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import org.junit.jupiter.api.Test;
+
+class RoaringBitmapTest {
+
+  @Test
+  void toStringListsValuesInOrderAcrossContainers() {
+    RoaringBitmap bitmap = RoaringBitmap.of(70_000, -5, 42, 1 << 20);
+    assertEquals("[ -5, 42, 70000, 1048576 ]", bitmap.toString());
+    assertEquals("[  ]", new RoaringBitmap().toString());
+  }
+
+  @Test
+  void toStringStopsAtMaxElements() {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    bitmap.addRange(0, 199_999); // Runs em vários containers
+    bitmap.add(-1);
+    assertEquals("[ -1, 0, 1, ... (199998 more) ]", bitmap.toString(3));
+    assertEquals("[ ... (200001 more) ]", bitmap.toString(0));
+  }
+
+  @Test
+  void writeToMatchesToString() throws Exception {
+    RoaringBitmap bitmap = RoaringBitmap.of(3, 1, 2, 100_000);
+    StringWriter out = new StringWriter();
+    bitmap.writeTo(out);
+    assertEquals(bitmap.toString(), out.toString());
+  }
+
+  // Bitmap aleatório com chunks esparsos (array), densos (bitmap) e de faixas (run)
+  private static RoaringBitmap randomBitmap(Random rnd, TreeSet<Integer> reference) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int chunk = -2; chunk < 4; chunk++) {
+      int base = chunk << 16;
+      switch (rnd.nextInt(4)) {
+        case 0: // Esparso
+          for (int k = 0; k < 200; k++) {
+            int v = base + rnd.nextInt(1 << 16);
+            bitmap.add(v);
+            reference.add(v);
+          }
+          break;
+        case 1: // Denso
+          for (int k = 0; k < 20_000; k++) {
+            int v = base + rnd.nextInt(1 << 16);
+            bitmap.add(v);
+            reference.add(v);
+          }
+          break;
+        case 2: // Faixas
+          for (int k = 0; k < 3; k++) {
+            int lo = base + rnd.nextInt(1 << 15);
+            int hi = lo + rnd.nextInt(1 << 14);
+            bitmap.addRange(lo, hi);
+            for (int v = lo; v <= hi; v++) reference.add(v);
+          }
+          break;
+        default: // Chunk ausente
+      }
+    }
+    if (rnd.nextBoolean()) bitmap.runOptimize();
+    return bitmap;
+  }
+
+  private static int[] toArray(TreeSet<Integer> set) {
+    return set.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static void checkOperation(BiConsumer<RoaringBitmap, RoaringBitmap> op,
+      BinaryOperator<TreeSet<Integer>> expected) {
+    Random rnd = new Random(42);
+    for (int round = 0; round < 40; round++) {
+      TreeSet<Integer> ra = new TreeSet<>(), rb = new TreeSet<>();
+      RoaringBitmap a = randomBitmap(rnd, ra);
+      RoaringBitmap b = randomBitmap(rnd, rb);
+      int[] bBefore = b.toArray();
+      op.accept(a, b);
+      assertArrayEquals(toArray(expected.apply(ra, rb)), a.toArray(), "round " + round);
+      assertArrayEquals(bBefore, b.toArray(), "argument modified in round " + round);
+    }
+  }
+
+  @Test
+  void inPlaceOperationsMatchReferenceSets() {
+    checkOperation(RoaringBitmap::and, (a, b) -> { a.retainAll(b); return a; });
+    checkOperation(RoaringBitmap::or, (a, b) -> { a.addAll(b); return a; });
+    checkOperation(RoaringBitmap::andNot, (a, b) -> { a.removeAll(b); return a; });
+    checkOperation(RoaringBitmap::xor, (a, b) -> {
+      TreeSet<Integer> common = new TreeSet<>(a);
+      common.retainAll(b);
+      a.addAll(b);
+      a.removeAll(common);
+      return a;
+    });
+  }
+
+  @Test
+  void operationsWithItselfAndEmpty() {
+    RoaringBitmap a = RoaringBitmap.of(1, 70_000);
+    a.addRange(200_000, 260_000);
+    long card = a.cardinality();
+    a.or(a);
+    assertEquals(card, a.cardinality());
+    a.and(a);
+    assertEquals(card, a.cardinality());
+    a.or(new RoaringBitmap());
+    assertEquals(card, a.cardinality());
+    a.xor(a);
+    assertEquals(0, a.cardinality());
+    assertEquals("[  ]", a.toString());
+  }
+}
@@ -0,0 +1,81 @@
+package com.gustavo.datastructures.concurrentdeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+// Produtores e consumidores concorrentes: cada elemento é entregue exatamente uma vez
+// e os elementos de um mesmo produtor saem na ordem em que entraram
+class LockFreeQueueTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+  @Test
+  void concurrentProducersAndConsumersTakeEachElementOnceInFifoOrder() {
+    assertTimeoutPreemptively(TIMEOUT, () -> {
+      int producers = 3;
+      int consumers = 3;
+      int perProducer = 100_000;
+      int total = producers * perProducer;
+      LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+      AtomicIntegerArray taken = new AtomicIntegerArray(total);
+      AtomicLong consumed = new AtomicLong();
+      AtomicLong outOfOrder = new AtomicLong();
+
+      List<Thread> threads = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        int base = p * perProducer;
+        threads.add(new Thread(() -> {
+          for (int i = 0; i < perProducer; i++) queue.addLast(base + i);
+        }));
+      }
+      for (int c = 0; c < consumers; c++) {
+        threads.add(new Thread(() -> {
+          int[] last = new int[producers]; // Último valor visto de cada produtor
+          java.util.Arrays.fill(last, -1);
+          while (consumed.get() < total) {
+            Integer v = queue.pollFirst();
+            if (v == null) {
+              Thread.yield();
+              continue;
+            }
+            int p = v / perProducer;
+            if (v <= last[p]) outOfOrder.incrementAndGet();
+            last[p] = v;
+            taken.incrementAndGet(v);
+            consumed.incrementAndGet();
+          }
+        }));
+      }
+      for (Thread t : threads) t.start();
+      for (Thread t : threads) t.join();
+
+      for (int i = 0; i < total; i++) assertEquals(1, taken.get(i), "element " + i);
+      assertEquals(0, outOfOrder.get());
+      assertNull(queue.pollFirst());
+      assertTrue(queue.isEmpty());
+    });
+  }
+
+  @Test
+  void singleThreadBehavesLikeAFifo() {
+    LockFreeQueue<String> queue = new LockFreeQueue<>();
+    assertNull(queue.pollFirst());
+    assertNull(queue.peekFirst());
+    queue.add("a");
+    queue.addLast("b");
+    assertEquals(2, queue.size());
+    assertEquals("a", queue.peekFirst());
+    assertEquals("a", queue.removeFirst());
+    assertEquals("b", queue.pollFirst());
+    assertTrue(queue.isEmpty());
+  }
+}
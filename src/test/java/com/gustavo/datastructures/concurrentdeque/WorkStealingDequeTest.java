@@ -0,0 +1,145 @@
+package com.gustavo.datastructures.concurrentdeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.Test;
+
+// Testes de intercalação no estilo jcstress: o dono empilha e desempilha enquanto
+// ladrões roubam, e cada elemento deve ser entregue exatamente uma vez
+class WorkStealingDequeTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+  private static final int THIEVES = 3;
+
+  // Inicia ladrões que roubam até `done` e o deque esvaziar, entregando cada valor a `sink`
+  private static <T> List<Thread> startThieves(WorkStealingDeque<T> deque, AtomicBoolean done,
+      java.util.function.Consumer<T> sink) {
+    List<Thread> thieves = new ArrayList<>();
+    for (int i = 0; i < THIEVES; i++) {
+      Thread t = new Thread(() -> {
+        while (!done.get() || !deque.isEmpty()) {
+          T v = deque.pollFirst();
+          if (v != null) sink.accept(v);
+          else Thread.onSpinWait();
+        }
+      });
+      t.start();
+      thieves.add(t);
+    }
+    return thieves;
+  }
+
+  private static void join(List<Thread> threads) throws InterruptedException {
+    for (Thread t : threads) t.join();
+  }
+
+  @Test
+  void ownerPopsAndStealsTakeEachElementOnceAcrossWrapAround() {
+    assertTimeoutPreemptively(TIMEOUT, () -> {
+      int n = 200_000;
+      // Capacidade 4 e no máximo 2 elementos vivos: os índices dão a volta no array
+      // milhares de vezes sem nunca crescer
+      WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(4);
+      AtomicIntegerArray taken = new AtomicIntegerArray(n);
+      AtomicBoolean done = new AtomicBoolean();
+      List<Thread> thieves = startThieves(deque, done, v -> taken.incrementAndGet(v));
+
+      for (int i = 0; i < n; i++) {
+        deque.addLast(i);
+        if (deque.size() >= 2) {
+          Integer v = deque.pollLast();
+          if (v != null) taken.incrementAndGet(v);
+        }
+      }
+      for (Integer v; (v = deque.pollLast()) != null; ) taken.incrementAndGet(v);
+      done.set(true);
+      join(thieves);
+
+      for (int i = 0; i < n; i++) assertEquals(1, taken.get(i), "element " + i);
+      assertEquals(0, deque.size());
+    });
+  }
+
+  @Test
+  void repushedIdenticalReferencesAreNeitherLostNorDuplicated() {
+    assertTimeoutPreemptively(TIMEOUT, () -> {
+      // Poucas referências reempilhadas o tempo todo: um ladrão atrasado não pode
+      // confundir o slot reutilizado com o elemento que leu antes
+      Object[] tokens = {new Object(), new Object()};
+      int rounds = 200_000;
+      WorkStealingDeque<Object> deque = new WorkStealingDeque<>(4);
+      AtomicLongArray taken = new AtomicLongArray(tokens.length);
+      long[] pushed = new long[tokens.length];
+      AtomicBoolean done = new AtomicBoolean();
+      List<Thread> thieves = startThieves(deque, done, v -> taken.incrementAndGet(v == tokens[0] ? 0 : 1));
+
+      for (int i = 0; i < rounds; i++) {
+        int k = i & 1;
+        deque.addLast(tokens[k]);
+        pushed[k]++;
+        if (deque.size() >= 2) {
+          Object v = deque.pollLast();
+          if (v != null) taken.incrementAndGet(v == tokens[0] ? 0 : 1);
+        }
+      }
+      for (Object v; (v = deque.pollLast()) != null; ) taken.incrementAndGet(v == tokens[0] ? 0 : 1);
+      done.set(true);
+      join(thieves);
+
+      assertEquals(pushed[0], taken.get(0));
+      assertEquals(pushed[1], taken.get(1));
+    });
+  }
+
+  @Test
+  void lastElementRaceHasExactlyOneWinner() {
+    assertTimeoutPreemptively(TIMEOUT, () -> {
+      int rounds = 20_000;
+      WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(2);
+      AtomicLong round = new AtomicLong(-1); // Rodada liberada para o ladrão
+      AtomicLong stolenRound = new AtomicLong(-1); // Última rodada concluída pelo ladrão
+      Integer[] stolen = new Integer[rounds];
+
+      Thread thief = new Thread(() -> {
+        for (int r = 0; r < rounds; r++) {
+          while (round.get() < r) Thread.yield();
+          stolen[r] = deque.pollFirst();
+          stolenRound.set(r);
+        }
+      });
+      thief.start();
+
+      for (int r = 0; r < rounds; r++) {
+        deque.addLast(r);
+        round.set(r); // O ladrão e o dono disputam o único elemento
+        Integer mine = deque.pollLast();
+        while (stolenRound.get() < r) Thread.yield();
+        int winners = (mine != null ? 1 : 0) + (stolen[r] != null ? 1 : 0);
+        assertEquals(1, winners, "round " + r);
+        assertEquals(0, deque.size());
+      }
+      thief.join();
+      assertNull(deque.pollFirst());
+    });
+  }
+
+  @Test
+  void growPreservesOrderForOwnerAndThieves() {
+    WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(2);
+    for (int i = 0; i < 100; i++) deque.addLast(i);
+    assertEquals(0, deque.pollFirst());
+    assertEquals(99, deque.pollLast());
+    assertEquals(1, deque.peekFirst());
+    assertEquals(98, deque.peekLast());
+    assertEquals(98, deque.size());
+  }
+}
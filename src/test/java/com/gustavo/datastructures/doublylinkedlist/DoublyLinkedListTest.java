@@ -0,0 +1,54 @@
+package com.gustavo.datastructures.doublylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import org.junit.jupiter.api.Test;
+
+// Percursos internos fail-fast: uma ação que insere na lista deve lançar
+// ConcurrentModificationException em vez de percorrer os nodes novos até estourar a memória
+class DoublyLinkedListTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private static DoublyLinkedList<Integer> listOf(int n) {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    for (int i = 0; i < n; i++) list.add(i);
+    return list;
+  }
+
+  @Test
+  void forEachVisitsEveryElementInOrder() {
+    List<Integer> seen = new ArrayList<>();
+    listOf(5).forEach(seen::add);
+    assertEquals(List.of(0, 1, 2, 3, 4), seen);
+  }
+
+  @Test
+  void forEachThatAddsFailsFast() {
+    DoublyLinkedList<Integer> list = listOf(3);
+    assertTimeoutPreemptively(TIMEOUT, () ->
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(list::add)));
+  }
+
+  @Test
+  void iteratorForEachRemainingThatAddsFailsFast() {
+    DoublyLinkedList<Integer> list = listOf(3);
+    assertTimeoutPreemptively(TIMEOUT, () ->
+        assertThrows(ConcurrentModificationException.class, () -> list.iterator().forEachRemaining(list::add)));
+  }
+
+  @Test
+  void spliteratorForEachRemainingThatAddsFailsFast() {
+    DoublyLinkedList<Integer> list = listOf(3);
+    Spliterator<Integer> it = list.spliterator();
+    assertTimeoutPreemptively(TIMEOUT, () ->
+        assertThrows(ConcurrentModificationException.class, () -> it.forEachRemaining(list::add)));
+  }
+}
@@ -0,0 +1,36 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DynamicArrayTest {
+
+  @Test
+  void removeIfKeepsOrderAndMembershipIndex() {
+    DynamicArray array = new DynamicArray(new int[] { 1, 2, 3, 4, 5, 6, 2 });
+    array.enableMembershipIndex();
+    assertTrue(array.removeIf(v -> v % 2 == 0));
+    assertArrayEquals(new int[] { 1, 3, 5 }, array.toArray());
+    assertFalse(array.contains(2));
+    assertEquals(0, array.count(4));
+    assertFalse(array.removeIf(v -> v > 10));
+  }
+
+  @Test
+  void removeIfLeavesArrayIntactWhenPredicateThrows() {
+    DynamicArray array = new DynamicArray(new int[] { 1, 2, 3, 4, 5 });
+    array.enableMembershipIndex();
+    assertThrows(IllegalStateException.class, () -> array.removeIf(v -> {
+      if (v == 4) throw new IllegalStateException("boom");
+      return v == 2;
+    }));
+    assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, array.toArray());
+    assertEquals(1, array.count(2));
+    assertTrue(array.contains(2));
+  }
+}
@@ -0,0 +1,40 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+// LongDynamicArray, DoubleDynamicArray e ByteDynamicArray crescem pela mesma GrowthPolicy do DynamicArray
+class PrimitiveDynamicArrayTest {
+
+  @Test
+  void growthFollowsPolicy() {
+    LongDynamicArray longs = new LongDynamicArray(0);
+    DoubleDynamicArray doubles = new DoubleDynamicArray(4, GrowthPolicy.fixedIncrement(3));
+    ByteDynamicArray bytes = new ByteDynamicArray(10, GrowthPolicy.oneAndHalf());
+    for (int i = 0; i < 11; i++) {
+      longs.add(i);
+      doubles.add(i);
+      bytes.add((byte) i);
+    }
+    assertEquals(16, longs.capacity()); // 1, 2, 4, 8, 16
+    assertEquals(13, doubles.capacity()); // 4, 7, 10, 13
+    assertEquals(15, bytes.capacity());
+    longs.trimToSize();
+    assertEquals(11, longs.capacity());
+    doubles.ensureCapacity(100);
+    assertEquals(100, doubles.capacity());
+    assertEquals(10.0, doubles.get(10));
+  }
+
+  @Test
+  void binarySearchReturnsInsertionPointWhenMissing() {
+    LongDynamicArray longs = new LongDynamicArray(new long[] { 10, 20, 30 });
+    DoubleDynamicArray doubles = new DoubleDynamicArray(new double[] { 1.0, 2.0, 3.0 });
+    ByteDynamicArray bytes = new ByteDynamicArray(new byte[] { 1, 5, 9 });
+    assertEquals(1, longs.binarySearch(20));
+    assertEquals(2, longs.binarySearch(25));
+    assertEquals(3, doubles.binarySearch(4.0));
+    assertEquals(0, bytes.binarySearch((byte) 0));
+  }
+}
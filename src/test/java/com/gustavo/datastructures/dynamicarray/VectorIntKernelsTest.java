@@ -0,0 +1,102 @@
+package com.gustavo.datastructures.dynamicarray;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Compara VectorIntKernels com laços escalares de referência em comprimentos e
+// deslocamentos que deixam caudas menores que um vetor
+class VectorIntKernelsTest {
+
+  private static final int MAX_LENGTH = 100; // Vários vetores mais cauda para qualquer largura
+  private static final int MAX_OFFSET = 17;
+
+  @Test
+  void vectorKernelsAreActiveUnderTest() {
+    // Surefire passa add-modules jdk.incubator.vector; sem ele os testes só veriam o caminho escalar
+    assertTrue(IntKernels.VECTORIZED);
+  }
+
+  @Test
+  void scansMatchScalarLoops() {
+    Random rnd = new Random(7);
+    for (int from = 0; from < MAX_OFFSET; from++) {
+      for (int len = 0; len <= MAX_LENGTH; len++) {
+        int to = from + len;
+        int[] a = rnd.ints(to + 3, -8, 8).toArray(); // Valores repetidos para achar e contar
+        int key = rnd.nextInt(16) - 8;
+
+        long sum = 0;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE, index = -1, count = 0;
+        for (int i = from; i < to; i++) {
+          sum += a[i];
+          min = Math.min(min, a[i]);
+          max = Math.max(max, a[i]);
+          if (a[i] == key) {
+            if (index < 0) index = i;
+            count++;
+          }
+        }
+        String at = "from=" + from + " len=" + len;
+        assertEquals(sum, VectorIntKernels.sum(a, from, to), at);
+        assertEquals(min, VectorIntKernels.min(a, from, to), at);
+        assertEquals(max, VectorIntKernels.max(a, from, to), at);
+        assertEquals(index, VectorIntKernels.indexOf(a, from, to, key), at);
+        assertEquals(count, VectorIntKernels.countEquals(a, from, to, key), at);
+      }
+    }
+  }
+
+  @Test
+  void sumDoesNotOverflowAcrossBlocks() {
+    int[] a = new int[(1 << 16) + 5];
+    Arrays.fill(a, Integer.MAX_VALUE);
+    a[3] = Integer.MIN_VALUE;
+    long expected = 0;
+    for (int i = 1; i < a.length; i++) expected += a[i];
+    assertEquals(expected, VectorIntKernels.sum(a, 1, a.length));
+  }
+
+  @Test
+  void writesMatchScalarLoops() {
+    Random rnd = new Random(11);
+    for (int from = 0; from < MAX_OFFSET; from++) {
+      for (int len = 0; len <= MAX_LENGTH; len++) {
+        int to = from + len;
+        int[] a = rnd.ints(to + 3, -50, 50).toArray();
+        String at = "from=" + from + " len=" + len;
+
+        int[] reversed = a.clone();
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+          int tmp = reversed[i];
+          reversed[i] = reversed[j];
+          reversed[j] = tmp;
+        }
+        int[] b = a.clone();
+        VectorIntKernels.reverse(b, from, to);
+        assertArrayEquals(reversed, b, at);
+
+        int[] filled = a.clone();
+        Arrays.fill(filled, from, to, 42);
+        int[] c = a.clone();
+        VectorIntKernels.fill(c, from, to, 42);
+        assertArrayEquals(filled, c, at);
+
+        int lo = rnd.nextInt(60) - 40, hi = lo + rnd.nextInt(40);
+        int off = rnd.nextInt(4);
+        int[] expected = new int[off + len];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+          if (a[i] >= lo && a[i] <= hi) expected[off + n++] = a[i];
+        }
+        int[] dst = new int[off + len]; // Espaço mínimo exigido por filterRange
+        assertEquals(n, VectorIntKernels.filterRange(a, from, to, lo, hi, dst, off), at);
+        assertArrayEquals(Arrays.copyOfRange(expected, off, off + n), Arrays.copyOfRange(dst, off, off + n), at);
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.gustavo.datastructures.ringbuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+
+class IntRingBufferTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private static List<IntRingBuffer> ringsOfCapacity(int capacity) {
+    List<BiFunction<Integer, BackpressureStrategy, IntRingBuffer>> factories =
+        List.of(IntRingBuffer::spsc, IntRingBuffer::mpsc, IntRingBuffer::mpmc);
+    List<IntRingBuffer> rings = new ArrayList<>();
+    for (BiFunction<Integer, BackpressureStrategy, IntRingBuffer> f : factories) {
+      rings.add(f.apply(capacity, BackpressureStrategy.YIELD));
+    }
+    return rings;
+  }
+
+  // Drena o buffer e retorna os elementos removidos na ordem
+  private static List<Integer> drain(IntRingBuffer ring) {
+    List<Integer> out = new ArrayList<>();
+    ring.drain(out::add, Integer.MAX_VALUE);
+    return out;
+  }
+
+  @Test
+  void capacityOneRejectsOfferWhenFull() {
+    for (IntRingBuffer ring : ringsOfCapacity(1)) {
+      int cap = ring.capacity();
+      for (int i = 0; i < cap; i++) assertTrue(ring.offer(i));
+      assertFalse(ring.offer(99), "offer on a full ring of capacity " + cap);
+      assertEquals(cap, ring.size());
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < cap; i++) expected.add(i);
+      assertEquals(expected, drain(ring));
+    }
+  }
+
+  @Test
+  void capacityOnePollReturnsAfterWrapAround() {
+    for (IntRingBuffer ring : ringsOfCapacity(1)) {
+      assertTimeoutPreemptively(TIMEOUT, () -> {
+        for (int lap = 0; lap < 10; lap++) {
+          assertTrue(ring.offer(lap));
+          assertEquals(lap, ring.take());
+          assertTrue(drain(ring).isEmpty());
+          assertTrue(ring.isEmpty());
+        }
+      });
+    }
+  }
+
+  @Test
+  void capacityIsRoundedToPowerOfTwo() {
+    assertEquals(1, IntRingBuffer.spsc(1, BackpressureStrategy.SPIN).capacity());
+    assertEquals(2, IntRingBuffer.mpsc(1, BackpressureStrategy.SPIN).capacity());
+    assertEquals(2, IntRingBuffer.mpmc(1, BackpressureStrategy.SPIN).capacity());
+    assertEquals(8, IntRingBuffer.mpmc(5, BackpressureStrategy.SPIN).capacity());
+    assertThrows(IllegalArgumentException.class, () -> IntRingBuffer.mpmc(0, BackpressureStrategy.SPIN));
+  }
+
+  @Test
+  void fifoAcrossManyLaps() {
+    for (IntRingBuffer ring : ringsOfCapacity(4)) {
+      int written = 0;
+      int read = 0;
+      for (int round = 0; round < 250; round++) {
+        while (ring.offer(written)) written++;
+        assertEquals(ring.capacity(), written - read);
+        for (int v : drain(ring)) assertEquals(read++, v);
+        assertEquals(written, read);
+      }
+    }
+  }
+
+  @Test
+  void producersAndConsumerTransferEveryElement() {
+    assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+      for (IntRingBuffer ring : List.of(IntRingBuffer.mpsc(1, BackpressureStrategy.YIELD),
+          IntRingBuffer.mpmc(2, BackpressureStrategy.YIELD))) {
+        int perThread = 20_000;
+        Thread[] producers = new Thread[3];
+        for (int t = 0; t < producers.length; t++) {
+          producers[t] = new Thread(() -> {
+            for (int i = 1; i <= perThread; i++) ring.put(i);
+          });
+          producers[t].start();
+        }
+        long sum = 0;
+        for (int n = 0; n < perThread * producers.length; n++) sum += ring.take();
+        for (Thread t : producers) t.join();
+        assertEquals(3L * perThread * (perThread + 1) / 2, sum);
+        assertTrue(ring.isEmpty());
+      }
+    });
+  }
+}
@@ -0,0 +1,92 @@
+package com.gustavo.datastructures.singlylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import org.junit.jupiter.api.Test;
+
+// Percursos internos fail-fast: uma ação que insere na lista deve lançar
+// ConcurrentModificationException em vez de percorrer os nodes novos até estourar a memória
+class SinglyLinkedListTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private static SinglyLinkedList<Integer> listOf(int n) {
+    SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+    for (int i = 0; i < n; i++) list.add(i);
+    return list;
+  }
+
+  @Test
+  void forEachVisitsEveryElementInOrder() {
+    List<Integer> seen = new ArrayList<>();
+    listOf(5).forEach(seen::add);
+    assertEquals(List.of(0, 1, 2, 3, 4), seen);
+  }
+
+  @Test
+  void forEachThatAddsFailsFast() {
+    SinglyLinkedList<Integer> list = listOf(3);
+    assertTimeoutPreemptively(TIMEOUT, () ->
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(list::add)));
+  }
+
+  @Test
+  void iteratorForEachRemainingThatAddsFailsFast() {
+    SinglyLinkedList<Integer> list = listOf(3);
+    assertTimeoutPreemptively(TIMEOUT, () ->
+        assertThrows(ConcurrentModificationException.class, () -> list.iterator().forEachRemaining(list::add)));
+  }
+
+  @Test
+  void spliteratorForEachRemainingThatAddsFailsFast() {
+    SinglyLinkedList<Integer> list = listOf(3);
+    Spliterator<Integer> it = list.spliterator();
+    assertTimeoutPreemptively(TIMEOUT, () ->
+        assertThrows(ConcurrentModificationException.class, () -> it.forEachRemaining(list::add)));
+  }
+
+  @Test
+  void removeIfLeavesListConsistentWhenFilterThrows() {
+    SinglyLinkedList<Integer> list = listOf(8);
+    list.removeLast(); // Registra predecessores do tail
+    list.add(7);
+    assertThrows(IllegalStateException.class, () -> list.removeIf(v -> {
+      if (v == 5) throw new IllegalStateException("boom");
+      return v % 2 == 0;
+    }));
+    List<Integer> seen = new ArrayList<>();
+    list.forEach(seen::add);
+    assertEquals(List.of(1, 3, 5, 6, 7), seen);
+    assertEquals(5, list.size());
+    assertEquals(7, list.removeLast());
+    assertEquals(6, list.removeLast());
+    assertEquals(5, list.removeLast()); // O predecessor registrado (4) foi removido pelo filtro
+    assertEquals(3, list.peekLast());
+    list.addLast(9);
+    seen.clear();
+    list.forEach(seen::add);
+    assertEquals(List.of(1, 3, 9), seen);
+    assertEquals(9, list.removeLast());
+    assertEquals(3, list.removeLast());
+  }
+
+  @Test
+  void removeIfUpdatesTailWhenLastIsRemoved() {
+    SinglyLinkedList<Integer> list = listOf(6);
+    assertTrue(list.removeIf(v -> v >= 3));
+    list.addLast(10);
+    List<Integer> seen = new ArrayList<>();
+    list.forEach(seen::add);
+    assertEquals(List.of(0, 1, 2, 10), seen);
+    assertEquals(10, list.removeLast());
+    assertEquals(2, list.peekLast());
+  }
+}
@@ -0,0 +1,48 @@
+package com.gustavo.datastructures.staticarray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedStaticArrayTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void binarySearchRequiresSortedArrayLikeStaticArray() throws Exception {
+    try (MappedStaticArray ar = MappedStaticArray.create(dir.resolve("a.bin"), 4)) {
+      ar.add(3);
+      ar.add(7);
+      ar.add(6);
+      assertFalse(ar.isSorted());
+      assertThrows(IllegalStateException.class, () -> ar.binarySearch(6));
+      ar.sort();
+      assertEquals(1, ar.binarySearch(6));
+      assertEquals(3, ar.binarySearch(8));
+    }
+  }
+
+  @Test
+  void setKeepsSortedFlagWhenOrderIsPreservedAndPersistsIt() throws Exception {
+    Path path = dir.resolve("b.bin");
+    try (MappedStaticArray ar = MappedStaticArray.create(path, 3)) {
+      ar.add(1);
+      ar.add(5);
+      ar.add(9);
+      ar.set(1, 4);
+      assertTrue(ar.isSorted());
+      ar.set(0, 10);
+      assertFalse(ar.isSorted());
+    }
+    try (MappedStaticArray ar = MappedStaticArray.openReadOnly(path)) {
+      assertFalse(ar.isSorted());
+      assertThrows(IllegalStateException.class, () -> ar.binarySearch(4));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.gustavo.datastructures.staticarray;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StaticArrayTest {
+
+  private static StaticArray arrayOf(int... values) {
+    StaticArray array = new StaticArray(values.length);
+    array.addAll(values, 0, values.length);
+    return array;
+  }
+
+  @Test
+  void removeIfKeepsOrder() {
+    StaticArray array = arrayOf(1, 2, 3, 4, 5, 6);
+    assertTrue(array.removeIf(v -> v % 2 == 0));
+    assertArrayEquals(new int[] { 1, 3, 5 }, array.toArray());
+    assertFalse(array.removeIf(v -> v > 10));
+  }
+
+  @Test
+  void removeIfLeavesArrayIntactWhenPredicateThrows() {
+    StaticArray array = arrayOf(1, 2, 3, 4, 5);
+    assertThrows(IllegalStateException.class, () -> array.removeIf(v -> {
+      if (v == 4) throw new IllegalStateException("boom");
+      return v == 2;
+    }));
+    assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, array.toArray());
+  }
+
+  @Test
+  void removeAtChecksBounds() {
+    StaticArray array = arrayOf(1, 2, 3);
+    assertThrows(IndexOutOfBoundsException.class, () -> array.removeAt(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.removeAt(-1));
+    array.removeAt(1);
+    assertArrayEquals(new int[] { 1, 3 }, array.toArray());
+    assertThrows(IndexOutOfBoundsException.class, () -> array.removeAt(2)); // Dentro da capacidade, fora do tamanho
+  }
+}